@@ -1,22 +1,67 @@
 package com.gestaoprojetos.config;
 
+import com.gestaoprojetos.security.CalibracaoBCrypt;
+import com.gestaoprojetos.security.ChavesJwt;
+import com.gestaoprojetos.security.LimitadorLogin;
+import com.gestaoprojetos.security.PasswordEncoderLimitado;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
+@EnableScheduling
 public class AppConfig {
 
+    /**
+     * Id do algoritmo gravado como prefixo dos hashes ({@code {bcrypt}$2a$12$...}).
+     */
+    public static final String ID_HASH_SENHA = "bcrypt";
+
     /**
      * Bean de PasswordEncoder (BCrypt) separado.
      * Agora toda injeção de PasswordEncoder virá desta classe.
+     * O custo do BCrypt é calibrado na inicialização para o tempo alvo
+     * ({@code senhas.hash.tempo-alvo-ms}), a menos que {@code senhas.hash.custo} esteja fixado.
+     * O BCrypt roda em um pool limitado (fora das threads do Tomcat); excedido o limite,
+     * a operação é recusada com 429 em vez de enfileirar indefinidamente.
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(
+            @Value("${senhas.hash.custo:0}") int custo,
+            @Value("${senhas.hash.tempo-alvo-ms:250}") long tempoAlvoMs,
+            @Value("${senhas.executor.threads:0}") int threads,
+            @Value("${senhas.executor.fila:64}") int fila,
+            @Value("${senhas.executor.espera-maxima-ms:5000}") long esperaMaximaMs,
+            MeterRegistry registry
+    ) {
+        int custoEfetivo = custo > 0 ? custo : CalibracaoBCrypt.escolherCusto(tempoAlvoMs);
+        // 0 = metade dos processadores, deixando CPU livre para os demais endpoints
+        int limite = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        return new PasswordEncoderLimitado(codificadorSenhas(custoEfetivo), limite, fila, esperaMaximaMs, registry);
+    }
+
+    /**
+     * Encoder no formato delegante: novos hashes saem como {@code {bcrypt}<hash BCrypt>}, e o
+     * próprio hash BCrypt guarda o custo usado. Hashes antigos, sem prefixo, continuam
+     * sendo aceitos como BCrypt e são refeitos no próximo login (upgradeEncoding), assim
+     * como os de custo menor que o atual.
+     *
+     * @param custo custo do BCrypt para os novos hashes.
+     */
+    public static PasswordEncoder codificadorSenhas(int custo) {
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(
+                ID_HASH_SENHA, Map.of(ID_HASH_SENHA, new BCryptPasswordEncoder(custo)));
+        encoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder(custo));
+        return encoder;
     }
 
     /**
@@ -28,4 +73,37 @@ public class AppConfig {
     ) throws Exception {
         return authConfig.getAuthenticationManager();
     }
+
+    /**
+     * Chaves de assinatura dos JWTs, compartilhadas entre as instâncias da aplicação.
+     * Ver {@link ChavesJwt} para o formato das fontes e o procedimento de rotação.
+     */
+    @Bean
+    public ChavesJwt chavesJwt(
+            @Value("${jwt.chaves.arquivo:}") String arquivo,
+            @Value("${jwt.chaves.keystore:}") String keystore,
+            @Value("${jwt.chaves.keystore-senha:}") String senhaKeystore,
+            @Value("${jwt.chaves.keystore-tipo:PKCS12}") String tipoKeystore,
+            @Value("${jwt.chaves.ativa:}") String ativa
+    ) {
+        return ChavesJwt.carregar(arquivo, keystore, senhaKeystore, tipoKeystore, ativa);
+    }
+
+    /**
+     * Limitador de tentativas de login com falha por username e por IP.
+     * Ver {@link LimitadorLogin} para o cálculo da janela e das esperas.
+     */
+    @Bean
+    public LimitadorLogin limitadorLogin(
+            @Value("${login.limite.usuario:5}") int limiteUsuario,
+            @Value("${login.limite.ip:20}") int limiteIp,
+            @Value("${login.limite.janela-segundos:300}") long janelaSegundos,
+            @Value("${login.limite.atraso-base-ms:1000}") long atrasoBaseMs,
+            @Value("${login.limite.atraso-maximo-segundos:300}") long atrasoMaximoSegundos,
+            @Value("${login.limite.capacidade:16384}") int capacidade,
+            MeterRegistry registry
+    ) {
+        return new LimitadorLogin(limiteUsuario, limiteIp, janelaSegundos * 1000, atrasoBaseMs,
+                atrasoMaximoSegundos * 1000, capacidade, registry);
+    }
 }
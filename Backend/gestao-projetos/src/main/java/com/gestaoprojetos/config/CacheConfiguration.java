@@ -0,0 +1,62 @@
+package com.gestaoprojetos.config;
+
+import com.gestaoprojetos.repository.PremioRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Métricas de aproveitamento do cache de segundo nível.
+ * <p>
+ * O Spring Boot já publica os contadores do Hibernate (hibernate.second.level.cache.requests
+ * com tags region e result=hit|miss); aqui se acrescenta a razão acertos/(acertos+faltas)
+ * de cada região, em cache.segundo.nivel.aproveitamento (tag regiao), para acompanhar sem
+ * precisar calcular no painel.
+ */
+@Configuration
+public class CacheConfiguration {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry registry;
+
+    public CacheConfiguration(EntityManagerFactory entityManagerFactory, MeterRegistry registry) {
+        this.entityManagerFactory = entityManagerFactory;
+        this.registry = registry;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void registrarMetricas() {
+        Statistics estatisticas = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        // regiões de consultas só são criadas no primeiro uso: entram pelo nome
+        Set<String> regioes = new TreeSet<>(Set.of(estatisticas.getSecondLevelCacheRegionNames()));
+        regioes.add(PremioRepository.REGIAO_CONSULTAS);
+        for (String regiao : regioes) {
+            Gauge.builder("cache.segundo.nivel.aproveitamento", estatisticas, e -> aproveitamento(e, regiao))
+                    .description("Fração das leituras do cache de segundo nível atendidas pelo cache")
+                    .tag("regiao", regiao)
+                    .register(registry);
+        }
+    }
+
+    private static double aproveitamento(Statistics estatisticas, String regiao) {
+        CacheRegionStatistics regionStatistics = estatisticas.getDomainDataRegionStatistics(regiao);
+        if (regionStatistics == null) {
+            regionStatistics = estatisticas.getQueryRegionStatistics(regiao);
+        }
+        if (regionStatistics == null) {
+            return Double.NaN;
+        }
+        long acertos = regionStatistics.getHitCount();
+        long total = acertos + regionStatistics.getMissCount();
+        return total == 0 ? Double.NaN : (double) acertos / total;
+    }
+}
@@ -1,11 +1,17 @@
 package com.gestaoprojetos.config;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import com.gestaoprojetos.security.CalibracaoBCrypt;
+import org.springframework.security.crypto.password.PasswordEncoder;
 
+/**
+ * Gera o hash de uma senha no mesmo formato da aplicação ({@code {bcrypt}$2a$<custo>$...}).
+ * Uso: {@code GerarHash [senha] [custo]}; sem custo, calibra para o tempo alvo padrão (250 ms).
+ */
 public class GerarHash {
     public static void main(String[] args) {
-        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(10);
-        String raw = "senha123";
+        String raw = args.length > 0 ? args[0] : "senha123";
+        int custo = args.length > 1 ? Integer.parseInt(args[1]) : CalibracaoBCrypt.escolherCusto(250);
+        PasswordEncoder encoder = AppConfig.codificadorSenhas(custo);
         String hash = encoder.encode(raw);
         System.out.println(hash);
     }
@@ -0,0 +1,95 @@
+package com.gestaoprojetos.config;
+
+import org.springframework.lang.Nullable;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Protege o usuário do atraso da réplica: depois que ele confirma uma transação de escrita,
+ * as leituras dele continuam no primário por {@code fixacaoMs}, para que veja o que acabou
+ * de gravar mesmo que a réplica ainda não tenha recebido a alteração.
+ * <p>
+ * O usuário é identificado pelo username autenticado ou, sem autenticação (login, cadastro),
+ * pelo IP da requisição. Fora de uma requisição (importações, tarefas agendadas) não há
+ * fixação. As fixações ficam em um LRU de {@code capacidade} entradas; a mais antiga sai
+ * primeiro, então com muitos usuários escrevendo ao mesmo tempo uma fixação pode acabar
+ * antes do prazo.
+ * <p>
+ * Como {@link TransactionExecutionListener}, o Spring Boot o registra no gerenciador de
+ * transações. O bean é criado em RoteamentoDataSourceConfiguration.
+ */
+public class GuardaAtrasoReplica implements TransactionExecutionListener {
+
+    private final long fixacaoMs;
+    private final Map<String, Long> fixadosAte;
+
+    /**
+     * @param fixacaoMs  tempo em que as leituras ficam no primário depois de uma escrita.
+     * @param capacidade quantidade máxima de usuários fixados mantidos em memória.
+     */
+    public GuardaAtrasoReplica(long fixacaoMs, int capacidade) {
+        this.fixacaoMs = fixacaoMs;
+        this.fixadosAte = new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> maisAntiga) {
+                return size() > capacidade;
+            }
+        };
+    }
+
+    @Override
+    public void afterCommit(TransactionExecution transaction, @Nullable Throwable commitFailure) {
+        if (commitFailure != null || transaction.isReadOnly()) {
+            return;
+        }
+        String chave = chaveAtual();
+        if (chave == null) {
+            return;
+        }
+        long ate = System.currentTimeMillis() + fixacaoMs;
+        synchronized (fixadosAte) {
+            fixadosAte.put(chave, ate);
+        }
+    }
+
+    /**
+     * Indica se as leituras do usuário atual devem ir ao primário.
+     */
+    public boolean fixadoNoPrimario() {
+        String chave = chaveAtual();
+        if (chave == null) {
+            return false;
+        }
+        synchronized (fixadosAte) {
+            Long ate = fixadosAte.get(chave);
+            if (ate == null) {
+                return false;
+            }
+            if (ate <= System.currentTimeMillis()) {
+                fixadosAte.remove(chave);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    private static String chaveAtual() {
+        Authentication autenticacao = SecurityContextHolder.getContext().getAuthentication();
+        if (autenticacao != null && autenticacao.isAuthenticated()
+                && !(autenticacao instanceof AnonymousAuthenticationToken)) {
+            return "usuario:" + autenticacao.getName();
+        }
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes atributos) {
+            return "ip:" + atributos.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
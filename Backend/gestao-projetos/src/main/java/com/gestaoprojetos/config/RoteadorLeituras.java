@@ -0,0 +1,61 @@
+package com.gestaoprojetos.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Escolhe o pool de cada conexão: transações somente leitura vão à réplica, a menos que o
+ * usuário tenha escrito há pouco ({@link GuardaAtrasoReplica}); todo o resto vai ao primário.
+ * <p>
+ * A escolha é feita quando a conexão é obtida, por isso este DataSource precisa ficar atrás
+ * de um LazyConnectionDataSourceProxy: o Hibernate abre a conexão no início da transação,
+ * antes de o Spring marcá-la como somente leitura, e o proxy adia a conexão real até o
+ * primeiro comando.
+ * <p>
+ * Métrica: datasource.leituras (tag destino=replica|primario), só das transações somente leitura.
+ */
+public class RoteadorLeituras extends AbstractRoutingDataSource {
+
+    private static final String PRIMARIO = "primario";
+    private static final String REPLICA = "replica";
+
+    private final GuardaAtrasoReplica guarda;
+    private final Counter leiturasReplica;
+    private final Counter leiturasPrimario;
+
+    public RoteadorLeituras(DataSource primario, DataSource replica, GuardaAtrasoReplica guarda,
+                            MeterRegistry registry) {
+        this.guarda = guarda;
+        this.leiturasReplica = contador(registry, REPLICA);
+        this.leiturasPrimario = contador(registry, PRIMARIO);
+        setTargetDataSources(Map.of(PRIMARIO, primario, REPLICA, replica));
+        setDefaultTargetDataSource(primario);
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARIO;
+        }
+        if (guarda.fixadoNoPrimario()) {
+            leiturasPrimario.increment();
+            return PRIMARIO;
+        }
+        leiturasReplica.increment();
+        return REPLICA;
+    }
+
+    private static Counter contador(MeterRegistry registry, String destino) {
+        return Counter.builder("datasource.leituras")
+                .description("Conexões abertas por transações somente leitura, por pool de destino")
+                .tag("destino", destino)
+                .register(registry);
+    }
+}
@@ -0,0 +1,86 @@
+package com.gestaoprojetos.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.PhysicalConnectionHandlingMode;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * Leituras em uma réplica: ativo só quando {@code datasource.replica.url} está configurado.
+ * <p>
+ * O DataSource da aplicação passa a ser um LazyConnectionDataSourceProxy sobre o
+ * {@link RoteadorLeituras}: transações {@code @Transactional(readOnly = true)} usam o pool da
+ * réplica, e as de escrita, o DDL do Hibernate e o que roda fora de transação usam o do
+ * primário (configurado em {@code spring.datasource.*}, como antes). Depois de uma escrita, as
+ * leituras do mesmo usuário ficam no primário por {@code datasource.replica.fixacao-segundos}
+ * ({@link GuardaAtrasoReplica}).
+ * <p>
+ * O Hibernate passa a devolver a conexão ao fim de cada transação, e não ao fechar a sessão.
+ * Sem Open Session in View cada transação já tem a sua sessão; mas uma sessão que atravesse
+ * uma transação somente leitura e uma de escrita (um EntityManager vinculado à thread por fora
+ * das transações) não pode ficar com a conexão da réplica, que a escrita reaproveitaria.
+ */
+@Configuration
+@ConditionalOnProperty("datasource.replica.url")
+public class RoteamentoDataSourceConfiguration {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSourcePrimario(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primario");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource dataSourceReplica(
+            DataSourceProperties properties,
+            @Value("${datasource.replica.url}") String url,
+            @Value("${datasource.replica.username:${spring.datasource.username:}}") String username,
+            @Value("${datasource.replica.password:${spring.datasource.password:}}") String password,
+            @Value("${datasource.replica.pool-maximo:10}") int poolMaximo
+    ) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setDriverClassName(properties.determineDriverClassName());
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setMaximumPoolSize(poolMaximo);
+        dataSource.setReadOnly(true);
+        return dataSource;
+    }
+
+    @Bean
+    public GuardaAtrasoReplica guardaAtrasoReplica(
+            @Value("${datasource.replica.fixacao-segundos:5}") long fixacaoSegundos,
+            @Value("${datasource.replica.fixacao-capacidade:16384}") int capacidade
+    ) {
+        return new GuardaAtrasoReplica(fixacaoSegundos * 1000, capacidade);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource dataSourcePrimario, HikariDataSource dataSourceReplica,
+                                 GuardaAtrasoReplica guardaAtrasoReplica, MeterRegistry registry) {
+        return new LazyConnectionDataSourceProxy(
+                new RoteadorLeituras(dataSourcePrimario, dataSourceReplica, guardaAtrasoReplica, registry));
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer liberarConexaoAposTransacao() {
+        return properties -> properties.put(AvailableSettings.CONNECTION_HANDLING,
+                PhysicalConnectionHandlingMode.DELAYED_ACQUISITION_AND_RELEASE_AFTER_TRANSACTION);
+    }
+}
@@ -2,25 +2,32 @@ package com.gestaoprojetos.controller;
 
 import com.gestaoprojetos.controller.DTO.UsuarioDTO;
 import com.gestaoprojetos.controller.DTO.UsuarioDTO.UsuarioResponseDTO;
-import com.gestaoprojetos.model.Pessoa;
+import com.gestaoprojetos.exception.TooManyRequestsException;
 import com.gestaoprojetos.model.Usuario;
 import com.gestaoprojetos.security.JwtUtil;
+import com.gestaoprojetos.security.LimitadorLogin;
+import com.gestaoprojetos.security.UsuarioAutenticado;
+import com.gestaoprojetos.security.VersoesToken;
 import com.gestaoprojetos.service.UsuarioServiceIMP;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.InternalAuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -36,16 +43,22 @@ public class AuthController {
     private final AuthenticationManager authenticationManager;
     private final UsuarioServiceIMP usuarioService;
     private final JwtUtil jwtUtil;
+    private final VersoesToken versoesToken;
+    private final LimitadorLogin limitadorLogin;
 
     @Autowired
     public AuthController(
             AuthenticationManager authenticationManager,
             UsuarioServiceIMP usuarioService,
-            JwtUtil jwtUtil
+            JwtUtil jwtUtil,
+            VersoesToken versoesToken,
+            LimitadorLogin limitadorLogin
     ) {
         this.authenticationManager = authenticationManager;
         this.usuarioService = usuarioService;
         this.jwtUtil = jwtUtil;
+        this.versoesToken = versoesToken;
+        this.limitadorLogin = limitadorLogin;
     }
 
 
@@ -66,6 +79,7 @@ public class AuthController {
                             mediaType = "application/json",
                             schema = @Schema(implementation = UsuarioResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content()),
+            @ApiResponse(responseCode = "429", description = "Muitas requisições de autenticação", content = @Content()),
     })
     public ResponseEntity<?> registerUser(@RequestBody @Valid RegisterRequest request) {
         String username = request.getUsername();
@@ -81,15 +95,13 @@ public class AuthController {
         novo.setUsername(username);
         novo.setPassword(password);
 
-        // Associa Pessoa “placeholder” com só o ID; o service buscará a pessoa real
-        Pessoa pessoa = new Pessoa() {};
-        pessoa.setId(pessoaId);
-        novo.setPessoa(pessoa);
-
         try {
-            Usuario usuarioSalvo = usuarioService.registrarUsuario(novo);
+            // A pessoa (Autor/Avaliador) é resolvida pelo service, na mesma transação do registro
+            Usuario usuarioSalvo = usuarioService.registrarUsuario(novo, pessoaId);
             var response = new UsuarioDTO.UsuarioResumoDTO(usuarioSalvo.getId(), usuarioSalvo.getUsername());
             return ResponseEntity.created(URI.create("/usuarios/" + usuarioSalvo.getId())).body(response);
+        } catch (TooManyRequestsException ex) {
+            return muitasRequisicoes(ex);
         } catch (Exception ex) {
             log.error("Erro ao registrar usuário", ex);
             return ResponseEntity.badRequest().body("Erro ao registrar usuário: " + ex.getMessage());
@@ -104,21 +116,36 @@ public class AuthController {
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = AuthResponse.class))),
-            @ApiResponse(responseCode = "401", description = "Credenciais inválidas", content = @Content())
+            @ApiResponse(responseCode = "401", description = "Credenciais inválidas", content = @Content()),
+            @ApiResponse(responseCode = "429", description = "Muitas requisições de autenticação ou tentativas com falha demais", content = @Content())
     })
-    public ResponseEntity<?> login(@RequestBody @Valid LoginRequest request) {
+    public ResponseEntity<?> login(@RequestBody @Valid LoginRequest request, HttpServletRequest httpRequest) {
+        String ip = httpRequest.getRemoteAddr();
         try {
+            // Antes do BCrypt: username/IP com tentativas demais são recusados sem verificar a senha
+            limitadorLogin.tentar(request.getUsername(), ip);
             Authentication authentication = authenticationManager.authenticate(
                     new UsernamePasswordAuthenticationToken(
                             request.getUsername(),
                             request.getPassword()
                     )
             );
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String jwt = jwtUtil.generateToken(userDetails.getUsername());
+            limitadorLogin.registrarSucesso(request.getUsername(), ip);
+            // O token leva id, pessoa, authorities e versão: as próximas requisições não consultam o banco
+            UsuarioAutenticado usuario = (UsuarioAutenticado) authentication.getPrincipal();
+            String jwt = jwtUtil.generateToken(usuario);
             return ResponseEntity.ok(new AuthResponse(jwt));
         } catch (BadCredentialsException ex) {
             return ResponseEntity.status(401).body("Usuário ou senha inválidos");
+        } catch (TooManyRequestsException ex) {
+            return muitasRequisicoes(ex);
+        } catch (InternalAuthenticationServiceException ex) {
+            // Para username inexistente o provider ainda roda um BCrypt (contra timing attack) e embrulha as falhas
+            if (ex.getCause() instanceof TooManyRequestsException causa) {
+                return muitasRequisicoes(causa);
+            }
+            log.error("Erro ao autenticar usuário", ex);
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Erro ao autenticar usuário");
         }
     }
 
@@ -165,18 +192,49 @@ public class AuthController {
                 return ResponseEntity.status(401).body("Token inválido ou ausente");
             }
 
-            String username = jwtUtil.getUsernameFromToken(token);
-            if (username == null) {
-                return ResponseEntity.status(401).body("Token inválido");
+            UsuarioAutenticado usuario = jwtUtil.toUsuarioAutenticado(jwtUtil.verificarToken(token));
+            if (!versoesToken.aceita(usuario.getId(), usuario.getTokenVersao())) {
+                return ResponseEntity.status(401).body("Token revogado");
             }
 
-            String newToken = jwtUtil.generateToken(username);
+            String newToken = jwtUtil.generateToken(usuario);
             return ResponseEntity.ok(new AuthResponse(newToken));
         } catch (Exception ex) {
             log.error("Erro ao atualizar token", ex);
             return ResponseEntity.status(401).body("Erro ao atualizar token: " + ex.getMessage());
         }
     }
+    /**
+     * Endpoint para encerrar a sessão: revoga todos os tokens do usuário autenticado.
+     *
+     * @param usuario Principal montado a partir do token enviado
+     * @return 204 se os tokens foram revogados, 401 se a requisição não estiver autenticada
+     */
+    @PostMapping("/logout")
+    @Operation(summary = "Revoga os tokens do usuário",
+            description = "Invalida todos os tokens JWT já emitidos para o usuário autenticado.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Tokens revogados com sucesso", content = @Content()),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou ausente", content = @Content())
+    })
+    public ResponseEntity<?> logout(@AuthenticationPrincipal UsuarioAutenticado usuario) {
+        if (usuario == null) {
+            return ResponseEntity.status(401).body("Token inválido ou ausente");
+        }
+        usuarioService.revogarTokens(usuario.getId());
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+     * Resposta 429 quando o pool de hash de senhas está saturado ou o login está bloqueado
+     * pelo limitador de tentativas.
+     */
+    private static ResponseEntity<?> muitasRequisicoes(TooManyRequestsException ex) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getSegundosParaNovaTentativa()))
+                .body(ex.getMessage());
+    }
+
     @Data
     public static class LoginRequest {
         private String username;
@@ -3,11 +3,14 @@ package com.gestaoprojetos.controller;
 import com.gestaoprojetos.controller.DTO.AutorDTO;
 import com.gestaoprojetos.controller.DTO.AutorDTO.AutorRequestDTO;
 import com.gestaoprojetos.controller.DTO.AutorDTO.AutorResponseDTO;
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Autor;
 import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.service.AutorServiceIMP;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -18,11 +21,16 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 /**
@@ -35,7 +43,7 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/autores")
 @Tag(name = "Autores", description = "API para gerenciamento de autores do sistema")
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = {Paginacao.HEADER_PROXIMO_CURSOR, HttpHeaders.LINK})
 public class AutorController {
 
     private final AutorServiceIMP autorService;
@@ -46,14 +54,17 @@ public class AutorController {
     }
 
     /**
-     * Lista todos os autores cadastrados no sistema.
+     * Lista os autores cadastrados no sistema, paginados por cursor.
      *
-     * @return ResponseEntity com lista de autores ou 204 se vazio
+     * @param cursor  cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior)
+     * @param tamanho quantidade de autores por página
+     * @return ResponseEntity com a página de autores ou 204 se vazio
      */
     @GetMapping
     @Operation(
         summary = "Listar todos os autores",
-        description = "Retorna uma lista paginada de todos os autores cadastrados no sistema."
+        description = "Retorna uma lista paginada de todos os autores cadastrados no sistema. "
+                + "O cursor da próxima página é enviado nos cabeçalhos X-Next-Cursor e Link."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -68,21 +79,27 @@ public class AutorController {
             responseCode = "204",
             description = "Nenhum autor encontrado no sistema",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor ou tamanho de página inválidos",
+            content = @Content
         )
     })
-    public ResponseEntity<List<AutorResponseDTO>> listarTodos() {
+    public ResponseEntity<?> listarTodos(
+            @Parameter(description = "Cursor da próxima página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "50")
+            @RequestParam(required = false) Integer tamanho) {
         try {
-            List<Autor> autores = autorService.listarTodos();
-
-            if (autores.isEmpty()) {
-                return ResponseEntity.noContent().build();
-            }
-
-            List<AutorResponseDTO> autoresDTO = autores.stream()
-                    .map(AutorDTO::toAutorResponseDTO)
-                    .toList();
+            CursorPage<AutorResponseDTO> pagina = autorService.listarTodos(cursor, tamanho)
+                    .map(AutorDTO::toAutorResponseDTO);
 
-            return ResponseEntity.ok(autoresDTO);
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -150,7 +167,7 @@ public class AutorController {
     @PostMapping
     @Operation(
         summary = "Criar novo autor",
-        description = "Cria um novo autor no sistema com os dados fornecidos."
+        description = "Cria um novo autor no sistema com os dados fornecidos, associado aos projetos de projetosIds."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -166,6 +183,11 @@ public class AutorController {
             description = "Dados inválidos fornecidos para criação",
             content = @Content
         ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Algum projeto informado em projetosIds não existe",
+            content = @Content
+        ),
         @ApiResponse(
             responseCode = "409",
             description = "Autor já existe (conflito de dados)",
@@ -182,7 +204,7 @@ public class AutorController {
             }
 
             Autor autor = AutorDTO.toAutor(autorRequestDTO);
-            Autor novoAutor = autorService.criarAutor(autor);
+            Autor novoAutor = autorService.criarAutor(autor, autorRequestDTO.getProjetosIds());
             AutorResponseDTO autorResponseDTO = AutorDTO.toAutorResponseDTO(novoAutor);
 
             return ResponseEntity.created(URI.create("/api/autores/" + novoAutor.getId()))
@@ -191,6 +213,50 @@ public class AutorController {
         } catch (BadRequestException e) {
             return ResponseEntity.badRequest()
                 .body("Erro de validação: " + e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+                .body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno do servidor");
+        }
+    }
+
+    /**
+     * Importa autores de um arquivo CSV (UTF-8, com cabeçalho).
+     *
+     * @param csv conteúdo do arquivo
+     * @return ResponseEntity com os totais e as linhas rejeitadas, ou 400 se o cabeçalho for inválido
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(
+        summary = "Importar autores de CSV",
+        description = "Cria autores a partir de um CSV com as colunas nome,cpf,email,telefone. "
+                + "O arquivo é lido como stream e gravado em lotes; linhas inválidas são rejeitadas "
+                + "individualmente, sem interromper a importação. Exemplo de linha: Maria Souza,123.456.789-00,maria@exemplo.com,99999-0000"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Importação concluída; veja as linhas rejeitadas",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ResultadoImportacaoDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Arquivo vazio ou sem as colunas obrigatórias",
+            content = @Content
+        )
+    })
+    public ResponseEntity<?> importarCsv(InputStream csv) {
+        try {
+            return ResponseEntity.ok(autorService.importarCsv(
+                    new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body("Erro interno do servidor");
@@ -1,10 +1,15 @@
 package com.gestaoprojetos.controller;
 
 import com.gestaoprojetos.controller.DTO.AvaliacaoDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoRequestDTO;
 import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoResponseDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.ResultadoLoteDTO;
+import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Avaliacao;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.service.AvaliacaoServiceIMP;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -49,31 +54,57 @@ public class AvaliacaoController {
     }
 
     /**
-     * Endpoint para obter uma avaliação por ID.
+     * Endpoint para criar várias avaliações de uma vez.
      *
-     * @return ResponseEntity com a avaliação encontrada ou 404 se não existir.
+     * @param avaliacoes Lista de avaliações (no máximo AvaliacaoServiceIMP.LOTE_MAXIMO).
+     * @return ResponseEntity com o resultado de cada item (ID gerado ou motivo da rejeição).
+     */
+    //Criar avaliações em lote
+    @PostMapping("/avaliacoes/batch")
+    @Operation(summary = "Criar Avaliações em Lote",
+            description = "Cria até " + AvaliacaoServiceIMP.LOTE_MAXIMO + " avaliações em uma requisição. "
+                    + "Itens inválidos são rejeitados individualmente, sem interromper o lote.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Lote processado; veja o resultado de cada item",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ResultadoLoteDTO.class))),
+            @ApiResponse(responseCode = "400", description = "Lote vazio ou maior que o limite", content = @Content),
+    })
+    public ResponseEntity<?> criarAvaliacoesEmLote(@RequestBody List<AvaliacaoRequestDTO> avaliacoes) {
+        try {
+            return ResponseEntity.ok(avaliacaoService.criarAvaliacoesEmLote(avaliacoes));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        }
+    }
+
+    /**
+     * Endpoint para listar as avaliações, paginadas por cursor.
+     *
+     * @param cursor  cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior).
+     * @param tamanho quantidade de avaliações por página.
+     * @return ResponseEntity com a página de avaliações ou 204 se não houver nenhuma.
      */
     //Lista de avaliações
     @GetMapping("/avaliacoes")
     @Operation(summary = "Listar Avaliações",
-            description = "Retorna todas as avaliações cadastradas no sistema.")
+            description = "Retorna uma página das avaliações cadastradas no sistema. "
+                    + "O cursor da próxima página é enviado nos cabeçalhos X-Next-Cursor e Link.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de avaliações obtida com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = AvaliacaoResponseDTO.class))),
             @ApiResponse(responseCode = "204", description = "Nenhuma avaliação encontrada", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos", content = @Content),
     })
-    public ResponseEntity<List<AvaliacaoResponseDTO>> listarAvaliacoes() {
-        List<Avaliacao> avaliacoes = avaliacaoService.listarTodos();
-        if (avaliacoes.isEmpty()) {
-            return ResponseEntity.noContent().build();
+    public ResponseEntity<?> listarAvaliacoes(@RequestParam(required = false) String cursor,
+                                              @RequestParam(required = false) Integer tamanho) {
+        try {
+            CursorPage<AvaliacaoResponseDTO> pagina = avaliacaoService.listarTodos(cursor, tamanho);
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-
-        List<AvaliacaoResponseDTO> avaliacoesDTO = avaliacoes.stream()
-                .map(AvaliacaoDTO::toAvaliacaoResponseDTO)
-                .toList();
-
-        return ResponseEntity.ok(avaliacoesDTO);
     }
 
     /**
@@ -6,6 +6,7 @@ import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Avaliador;
 import com.gestaoprojetos.service.AvaliadorServiceIMP;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -31,26 +32,31 @@ public class AvaliadorController {
     }
 
     /**
-     * Endpoint para listar todos os avaliadores cadastrados no sistema.
+     * Endpoint para listar os avaliadores cadastrados no sistema, paginados por cursor.
      *
-     * @return ResponseEntity com uma lista de avaliadores ou 204 No Content se não houver avaliadores.
+     * @param cursor  cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior).
+     * @param tamanho quantidade de avaliadores por página.
+     * @return ResponseEntity com uma página de avaliadores ou 204 No Content se não houver avaliadores.
      */
-    // lista todos os avaliadores
+    // lista os avaliadores (paginado por cursor)
     @GetMapping
     @Operation(summary = "Listar Avaliadores",
-            description = "Retorna uma lista de avaliadores cadastrados no sistema.")
+            description = "Retorna uma página de avaliadores cadastrados no sistema. "
+                    + "O cursor da próxima página é enviado nos cabeçalhos X-Next-Cursor e Link.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de avaliadores obtida com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = PessoaDTO.PessoaResponseDTO.class))),
             @ApiResponse(responseCode = "204", description = "Nenhum avaliador encontrado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos", content = @Content),
     })
-    public ResponseEntity<List<PessoaDTO.PessoaResponseDTO>> lazyListarTodos() {
-        List<PessoaDTO.PessoaResponseDTO> avaliadores = avaliadorService.listarTodos();
-        if (avaliadores.isEmpty()) {
-            return ResponseEntity.noContent().build();
+    public ResponseEntity<?> lazyListarTodos(@RequestParam(required = false) String cursor,
+                                             @RequestParam(required = false) Integer tamanho) {
+        try {
+            return Paginacao.resposta(avaliadorService.listarTodos(cursor, tamanho));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-        return ResponseEntity.ok(avaliadores);
     }
 
     /**
@@ -6,7 +6,9 @@ import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Cronograma;
 import com.gestaoprojetos.model.Premio;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.service.CronogramaServiceIMP;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -55,28 +57,30 @@ public class CronogramaController {
     }
 
     /**
-     * Endpoint para listar todos os cronogramas cadastrados.
-     * Retorna uma lista de cronogramas ou 204 se não houver nenhum.
-     *  * @return ResponseEntity com a lista de cronogramas ou 204 se não houver nenhum.
+     * Endpoint para listar os cronogramas cadastrados, paginados por cursor.
+     * Retorna uma página de cronogramas ou 204 se não houver nenhum.
+     *  * @return ResponseEntity com a página de cronogramas ou 204 se não houver nenhum.
      * */
-    //Listar todos os cronogramas
+    //Listar cronogramas
     @GetMapping
-    @Operation(summary = "Listar Cronogramas", description = "Retorna todos os cronogramas cadastrados.")
+    @Operation(summary = "Listar Cronogramas", description = "Retorna uma página dos cronogramas cadastrados. "
+            + "O cursor da próxima página é enviado nos cabeçalhos X-Next-Cursor e Link.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de cronogramas obtida com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = CronogramaResponseDTO.class))),
-            @ApiResponse(responseCode = "204", description = "Nenhum cronograma encontrado", content = @Content)
+            @ApiResponse(responseCode = "204", description = "Nenhum cronograma encontrado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos", content = @Content)
     })
-    public ResponseEntity<List<CronogramaResponseDTO>> listarCronogramas() {
-        List<CronogramaResponseDTO> lista = cronogramaService.listarTodos()
-                .stream()
-                .map(CronogramaDTO::toCronogramaResponseDTO)
-                .toList();
-        if (lista.isEmpty()) {
-            return ResponseEntity.noContent().build();
+    public ResponseEntity<?> listarCronogramas(@RequestParam(required = false) String cursor,
+                                               @RequestParam(required = false) Integer tamanho) {
+        try {
+            CursorPage<CronogramaResponseDTO> pagina = cronogramaService.listarTodos(cursor, tamanho)
+                    .map(CronogramaDTO::toCronogramaResponseDTO);
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-        return ResponseEntity.ok(lista);
     }
 
     /**
@@ -71,10 +71,10 @@ public final class AutorDTO {
 
     /**
      * Converte AutorRequestDTO para entidade Autor.
-     * Os projetos serão apenas objetos temporários com IDs.
+     * Os projetosIds não são convertidos: o service os resolve com ResolvedorIds.
      *
      * @param autorRequestDTO DTO com os dados da requisição
-     * @return Autor com dados básicos (projetos devem ser validados no service)
+     * @return Autor com dados básicos, sem projetos
      */
     public static Autor toAutor(AutorRequestDTO autorRequestDTO) {
         if (autorRequestDTO == null) {
@@ -87,15 +87,6 @@ public final class AutorDTO {
         autor.setTelefone(autorRequestDTO.getTelefone());
         autor.setEmail(autorRequestDTO.getEmail());
 
-        if (autorRequestDTO.getProjetosIds() != null && !autorRequestDTO.getProjetosIds().isEmpty()) {
-            autor.setProjetos(autorRequestDTO.getProjetosIds().stream()
-                    .map(id -> {
-                        Projeto projeto = new Projeto();
-                        projeto.setId(id);
-                        return projeto;
-                    }).toList());
-        }
-
         return autor;
     }
 
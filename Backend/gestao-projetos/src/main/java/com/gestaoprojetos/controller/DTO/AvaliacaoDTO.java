@@ -9,6 +9,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public final class AvaliacaoDTO {
 
@@ -51,6 +52,29 @@ public final class AvaliacaoDTO {
         private String parecer;
     }
 
+    /**
+     * Resultado de um item do envio em lote: o ID gerado ou o motivo da rejeição.
+     * O índice é a posição (0-based) do item na lista enviada.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ItemLoteDTO {
+        private Integer indice;
+        private Long id;
+        private String erro;
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ResultadoLoteDTO {
+        private Integer recebidas;
+        private Integer criadas;
+        private Integer rejeitadas;
+        private List<ItemLoteDTO> itens;
+    }
+
     /**
      * Converte entidade Avaliacao para AvaliacaoResponseDTO.
      *
@@ -72,10 +72,12 @@ public final class AvaliadorDTO {
 
     /**
      * Converte AvaliadorRequestDTO para entidade Avaliador.
-     * As avaliações serão apenas objetos temporários com IDs.
+     * Os avaliacoesIds não são convertidos: cada avaliação é criada já vinculada ao seu avaliador
+     * pelo endpoint de avaliações; IDs recebidos em lista são resolvidos no service com
+     * ResolvedorIds.
      *
      * @param avaliadorRequestDTO DTO com os dados da requisição
-     * @return Avaliador com dados básicos (avaliações devem ser validadas no service)
+     * @return Avaliador com dados básicos, sem avaliações
      */
     public static Avaliador toAvaliador(AvaliadorRequestDTO avaliadorRequestDTO) {
         if (avaliadorRequestDTO == null) {
@@ -88,15 +90,6 @@ public final class AvaliadorDTO {
         avaliador.setTelefone(avaliadorRequestDTO.getTelefone());
         avaliador.setEmail(avaliadorRequestDTO.getEmail());
 
-        if (avaliadorRequestDTO.getAvaliacoesIds() != null && !avaliadorRequestDTO.getAvaliacoesIds().isEmpty()) {
-            avaliador.setAvaliacoes(avaliadorRequestDTO.getAvaliacoesIds().stream()
-                    .map(id -> {
-                        Avaliacao avaliacao = new Avaliacao();
-                        avaliacao.setId(id);
-                        return avaliacao;
-                    }).toList());
-        }
-
         return avaliador;
     }
 
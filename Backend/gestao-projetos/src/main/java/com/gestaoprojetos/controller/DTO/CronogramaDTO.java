@@ -74,10 +74,12 @@ public final class CronogramaDTO {
 
     /**
      * Converte CronogramaRequestDTO para entidade Cronograma.
-     * Os prêmios serão apenas objetos temporários com IDs.
+     * Os premiosIds não são convertidos: cada prêmio pertence ao seu cronograma e é vinculado
+     * pelo próprio endpoint de prêmios; IDs recebidos em lista são resolvidos no service com
+     * ResolvedorIds.
      *
      * @param cronogramaRequestDTO DTO com os dados da requisição
-     * @return Cronograma com dados básicos (prêmios devem ser validados no service)
+     * @return Cronograma com dados básicos, sem prêmios
      */
     public static Cronograma toCronograma(CronogramaRequestDTO cronogramaRequestDTO) {
         if (cronogramaRequestDTO == null) {
@@ -93,15 +95,6 @@ public final class CronogramaDTO {
             cronograma.setStatus(cronogramaRequestDTO.getStatus());
         }
 
-        if (cronogramaRequestDTO.getPremiosIds() != null && !cronogramaRequestDTO.getPremiosIds().isEmpty()) {
-            cronograma.setPremios(cronogramaRequestDTO.getPremiosIds().stream()
-                    .map(id -> {
-                        Premio premio = new Premio();
-                        premio.setId(id);
-                        return premio;
-                    }).toList());
-        }
-
         return cronograma;
     }
 
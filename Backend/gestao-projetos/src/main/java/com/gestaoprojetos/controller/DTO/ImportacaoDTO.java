@@ -0,0 +1,40 @@
+package com.gestaoprojetos.controller.DTO;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+public final class ImportacaoDTO {
+
+    // Construtor privado para impedir instanciação (classe utilitária)
+    private ImportacaoDTO() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Linha do CSV que não foi importada e o motivo.
+     * A linha é a do arquivo em que o registro começa (o cabeçalho é a linha 1).
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ErroLinhaDTO {
+        private Long linha;
+        private String erro;
+    }
+
+    /**
+     * Resultado de uma importação: totais e as linhas rejeitadas, na ordem do arquivo.
+     */
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ResultadoImportacaoDTO {
+        private Long recebidas;
+        private Long criadas;
+        private Long rejeitadas;
+        private List<ErroLinhaDTO> erros;
+    }
+}
@@ -7,7 +7,10 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.stream.Collectors;
 
 public final class ProjetoDTO {
 
@@ -27,6 +30,18 @@ public final class ProjetoDTO {
         private String areaTematica;
         private List<AutorDTO.AutorResumoDTO> autores;
         private List<AvaliacaoDTO.AvaliacaoResumoDTO> avaliacoes;
+        private Long quantidadeAvaliacoes;
+        private Double mediaNotas;
+
+        /**
+         * Usado pela projeção da listagem: as listas de autores e avaliações começam vazias
+         * e são preenchidas depois, com uma consulta por lista para a página inteira.
+         */
+        public ProjetoResponseDTO(Long id, String titulo, String resumo, LocalDate dataEnvio, String areaTematica,
+                                  Long quantidadeAvaliacoes, Double mediaNotas) {
+            this(id, titulo, resumo, dataEnvio, areaTematica, new ArrayList<>(), new ArrayList<>(),
+                    quantidadeAvaliacoes, mediaNotas);
+        }
     }
 
     @Data
@@ -71,7 +86,9 @@ public final class ProjetoDTO {
                         .toList() : List.of(),
                 projeto.getAvaliacoes() != null ? projeto.getAvaliacoes().stream()
                         .map(AvaliacaoDTO::toAvaliacaoResumoDTO)
-                        .toList() : List.of()
+                        .toList() : List.of(),
+                projeto.getResumoNotas() != null ? projeto.getResumoNotas().getQuantidadeAvaliacoes() : 0L,
+                projeto.getResumoNotas() != null ? projeto.getResumoNotas().getMediaNotas() : null
         );
     }
 
@@ -99,7 +116,7 @@ public final class ProjetoDTO {
                         Autor autor = new Autor();
                         autor.setId(id);
                         return autor;
-                    }).toList());
+                    }).collect(Collectors.toCollection(LinkedHashSet::new)));
         }
 
         return projeto;
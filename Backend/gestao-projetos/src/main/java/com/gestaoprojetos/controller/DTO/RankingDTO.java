@@ -0,0 +1,60 @@
+package com.gestaoprojetos.controller.DTO;
+
+import com.gestaoprojetos.repository.ProjetoRankingView;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+public final class RankingDTO {
+
+    // Construtor privado para impedir instanciação (classe utilitária)
+    private RankingDTO() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ProjetoRankingDTO {
+        private Integer posicao;
+        private Long projetoId;
+        private String titulo;
+        private String areaTematica;
+        private Long quantidadeAvaliacoes;
+        private Double media;
+        private Double notaMinima;
+        private Double notaMaxima;
+        private Double desvioPadrao;
+    }
+
+    /**
+     * Converte uma linha agregada da apuração para ProjetoRankingDTO.
+     * O desvio padrão é o populacional: sqrt(E[nota²] - E[nota]²).
+     *
+     * @param posicao Posição (1-based) do projeto no ranking
+     * @param linha   Linha agregada vinda do banco
+     * @return DTO para resposta da API
+     */
+    public static ProjetoRankingDTO toProjetoRankingDTO(int posicao, ProjetoRankingView linha) {
+        if (linha == null) {
+            return null;
+        }
+
+        long quantidade = linha.getQuantidadeAvaliacoes();
+        double media = linha.getMedia();
+        double variancia = linha.getSomaQuadrados() / quantidade - media * media;
+
+        return new ProjetoRankingDTO(
+                posicao,
+                linha.getProjetoId(),
+                linha.getTitulo(),
+                linha.getAreaTematica(),
+                quantidade,
+                media,
+                linha.getNotaMinima(),
+                linha.getNotaMaxima(),
+                // Arredondamentos podem deixar a variância levemente negativa quando as notas são iguais
+                Math.sqrt(Math.max(variancia, 0.0))
+        );
+    }
+}
@@ -6,7 +6,9 @@ import com.gestaoprojetos.controller.DTO.PremioDTO.PremioResponseDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Premio;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.service.PremioServiceIMP;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -65,26 +67,28 @@ public class PremioController {
         }
     }
 
-    /*  Endpoint para listar todos os prêmios cadastrados.
-     * Retorna uma lista de prêmios ou 204 se não houver nenhum.
+    /*  Endpoint para listar os prêmios cadastrados, paginados por cursor.
+     * Retorna uma página de prêmios ou 204 se não houver nenhum.
+     * O cursor da próxima página segue nos cabeçalhos X-Next-Cursor e Link.
      */
-    //Listar todos os prêmios
+    //Listar prêmios
     @GetMapping
-    @Operation(summary = "Listar Prêmios", description = "Retorna todos os prêmios cadastrados.")
+    @Operation(summary = "Listar Prêmios", description = "Retorna uma página dos prêmios cadastrados.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Lista de prêmios obtida com sucesso",
                     content = @Content(mediaType = "application/json", schema = @Schema(implementation = PremioResponseDTO.class))),
-            @ApiResponse(responseCode = "204", description = "Nenhum prêmio encontrado", content = @Content)
+            @ApiResponse(responseCode = "204", description = "Nenhum prêmio encontrado", content = @Content),
+            @ApiResponse(responseCode = "400", description = "Cursor ou tamanho de página inválidos", content = @Content)
     })
-    public ResponseEntity<List<PremioResponseDTO>> listarPremios() {
-        List<PremioResponseDTO> premios = premioService.listarTodos().stream()
-                .map(PremioDTO::toPremioResponseDTO)
-                .toList();
-        if (premios.isEmpty()) {
-            return ResponseEntity.noContent().build();
+    public ResponseEntity<?> listarPremios(@RequestParam(required = false) String cursor,
+                                           @RequestParam(required = false) Integer tamanho) {
+        try {
+            CursorPage<PremioResponseDTO> premios = premioService.listarTodos(cursor, tamanho)
+                    .map(PremioDTO::toPremioResponseDTO);
+            return Paginacao.resposta(premios);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
         }
-
-        return ResponseEntity.ok(premios);
     }
 
 
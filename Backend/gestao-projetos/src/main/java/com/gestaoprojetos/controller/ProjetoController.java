@@ -1,14 +1,20 @@
 package com.gestaoprojetos.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gestaoprojetos.controller.DTO.ProjetoDTO;
 import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoRequestDTO;
 import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoResponseDTO;
+import com.gestaoprojetos.controller.DTO.RankingDTO.ProjetoRankingDTO;
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Autor;
 import com.gestaoprojetos.model.Avaliacao;
 import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.service.ProjetoServiceIMP;
+import com.gestaoprojetos.utils.ExportacaoProjetos;
+import com.gestaoprojetos.utils.Paginacao;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -19,12 +25,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.BufferedWriter;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Controller responsável por gerenciar operações relacionadas aos projetos.
@@ -36,30 +53,38 @@ import java.util.List;
 @RestController
 @RequestMapping("/api/projetos")
 @Tag(name = "Projetos", description = "API para gerenciamento de projetos do sistema")
-@CrossOrigin(origins = "*", maxAge = 3600)
+@CrossOrigin(origins = "*", maxAge = 3600, exposedHeaders = {Paginacao.HEADER_PROXIMO_CURSOR, Paginacao.HEADER_TOTAL, HttpHeaders.LINK})
 public class ProjetoController {
 
     private final ProjetoServiceIMP projetoService;
+    private final ObjectMapper objectMapper;
 
     @Autowired
-    public ProjetoController(ProjetoServiceIMP projetoService) {
+    public ProjetoController(ProjetoServiceIMP projetoService, ObjectMapper objectMapper) {
         this.projetoService = projetoService;
+        this.objectMapper = objectMapper;
     }
 
     /**
-     * Lista todos os projetos cadastrados no sistema.
+     * Lista os projetos cadastrados no sistema, paginados por cursor.
      *
-     * @return ResponseEntity com lista de projetos ou 204 se vazio
+     * @param cursor     cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior)
+     * @param tamanho    quantidade de projetos por página
+     * @param ordenarPor campo de ordenação ("id" ou "dataEnvio")
+     * @param direcao    direção da ordenação ("asc" ou "desc")
+     * @return ResponseEntity com a página de projetos ou 204 se vazio
      */
     @GetMapping
     @Operation(
-        summary = "Listar todos os projetos",
-        description = "Retorna uma lista completa de todos os projetos cadastrados no sistema."
+        summary = "Listar projetos",
+        description = "Retorna uma página de projetos ordenada por id ou dataEnvio. "
+                + "Quando houver mais resultados, o cursor da próxima página é enviado "
+                + "nos cabeçalhos X-Next-Cursor e Link."
     )
     @ApiResponses(value = {
         @ApiResponse(
             responseCode = "200",
-            description = "Lista de projetos obtida com sucesso",
+            description = "Página de projetos obtida com sucesso",
             content = @Content(
                 mediaType = "application/json",
                 array = @ArraySchema(schema = @Schema(implementation = ProjetoResponseDTO.class))
@@ -69,21 +94,87 @@ public class ProjetoController {
             responseCode = "204",
             description = "Nenhum projeto encontrado no sistema",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Cursor, tamanho ou ordenação inválidos",
+            content = @Content
         )
     })
-    public ResponseEntity<List<ProjetoResponseDTO>> listarTodos() {
+    public ResponseEntity<?> listarTodos(
+            @Parameter(description = "Cursor da próxima página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "50")
+            @RequestParam(required = false) Integer tamanho,
+            @Parameter(description = "Campo de ordenação: id ou dataEnvio", example = "id")
+            @RequestParam(defaultValue = "id") String ordenarPor,
+            @Parameter(description = "Direção da ordenação: asc ou desc", example = "asc")
+            @RequestParam(defaultValue = "asc") String direcao) {
         try {
-            List<Projeto> projetos = projetoService.listarTodos();
-
-            if (projetos.isEmpty()) {
-                return ResponseEntity.noContent().build();
-            }
+            CursorPage<ProjetoResponseDTO> pagina = projetoService
+                    .listarTodos(cursor, tamanho, ordenarPor, direcao);
 
-            List<ProjetoResponseDTO> projetosDTO = projetos.stream()
-                    .map(ProjetoDTO::toProjetoResponseDTO)
-                    .toList();
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
 
-            return ResponseEntity.ok(projetosDTO);
+    /**
+     * Exporta todos os projetos, com autores e avaliações, para relatórios.
+     * A resposta é escrita enquanto os projetos são lidos do banco (sem montar a lista em memória).
+     *
+     * @param formato "ndjson" (um projeto em JSON por linha) ou "csv"
+     * @return ResponseEntity com o conteúdo em streaming ou 400 se o formato for inválido
+     */
+    @GetMapping("/export")
+    @Operation(
+        summary = "Exportar projetos",
+        description = "Exporta todos os projetos, ordenados por ID, com autores e avaliações. "
+                + "Em NDJSON cada linha é um projeto no mesmo formato da listagem; em CSV cada linha "
+                + "é um projeto, com os autores e as notas das avaliações separados por \"; \"."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Exportação iniciada",
+            content = {
+                @Content(mediaType = "application/x-ndjson"),
+                @Content(mediaType = "text/csv")
+            }
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Formato inválido",
+            content = @Content
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> exportar(
+            @Parameter(description = "Formato da exportação: ndjson ou csv", example = "ndjson")
+            @RequestParam(defaultValue = "ndjson") String formato) {
+        try {
+            ExportacaoProjetos.Formato escolhido = ExportacaoProjetos.Formato.de(formato);
+
+            StreamingResponseBody corpo = saida -> {
+                Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+                projetoService.exportar(ExportacaoProjetos.escritor(escolhido, writer, objectMapper));
+                writer.flush();
+            };
+
+            return ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(escolhido.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(escolhido.getNomeArquivo()).build().toString())
+                .body(corpo);
+        } catch (BadRequestException e) {
+            // o corpo precisa ser um StreamingResponseBody para o Spring tratar a resposta em streaming
+            return ResponseEntity.badRequest()
+                .contentType(new MediaType(MediaType.TEXT_PLAIN, StandardCharsets.UTF_8))
+                .body(saida -> saida.write(e.getMessage().getBytes(StandardCharsets.UTF_8)));
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
@@ -129,7 +220,7 @@ public class ProjetoController {
                     .body("ID deve ser um número positivo válido");
             }
 
-            Projeto projeto = projetoService.buscarPorId(id);
+            Projeto projeto = projetoService.buscarDetalhePorId(id);
             ProjetoResponseDTO projetoDTO = ProjetoDTO.toProjetoResponseDTO(projeto);
             return ResponseEntity.ok(projetoDTO);
 
@@ -195,6 +286,47 @@ public class ProjetoController {
         }
     }
 
+    /**
+     * Importa projetos de um arquivo CSV (UTF-8, com cabeçalho).
+     *
+     * @param csv conteúdo do arquivo
+     * @return ResponseEntity com os totais e as linhas rejeitadas, ou 400 se o cabeçalho for inválido
+     */
+    @PostMapping(value = "/import", consumes = {"text/csv", MediaType.TEXT_PLAIN_VALUE})
+    @Operation(
+        summary = "Importar projetos de CSV",
+        description = "Cria projetos a partir de um CSV com as colunas titulo,resumo,dataEnvio,areaTematica,autoresId (IDs separados por \";\"). "
+                + "O arquivo é lido como stream e gravado em lotes; linhas inválidas são rejeitadas "
+                + "individualmente, sem interromper a importação. Exemplo de linha: Projeto X,Resumo do projeto,2025-06-01,Tecnologia,1;3"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Importação concluída; veja as linhas rejeitadas",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = ResultadoImportacaoDTO.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Arquivo vazio ou sem as colunas obrigatórias",
+            content = @Content
+        )
+    })
+    public ResponseEntity<?> importarCsv(InputStream csv) {
+        try {
+            return ResponseEntity.ok(projetoService.importarCsv(
+                    new InputStreamReader(csv, StandardCharsets.UTF_8)));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno do servidor");
+        }
+    }
+
     /**
      * Atualiza um projeto existente.
      *
@@ -310,14 +442,18 @@ public class ProjetoController {
     }
 
     /**
-     * Lista projetos sem avaliações.
+     * Lista projetos sem avaliações, paginados por cursor.
      *
-     * @return ResponseEntity com lista de projetos sem avaliações
+     * @param cursor  cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior)
+     * @param tamanho quantidade de projetos por página
+     * @return ResponseEntity com a página de projetos sem avaliações; na primeira, o total em X-Total-Count
      */
     @GetMapping("/sem-avaliacoes")
     @Operation(
         summary = "Listar projetos sem avaliações",
-        description = "Retorna todos os projetos que ainda não possuem avaliações."
+        description = "Retorna uma página dos projetos que ainda não possuem avaliações. "
+                + "Na primeira página (sem cursor), o total de projetos sem avaliações é enviado "
+                + "no cabeçalho X-Total-Count."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -334,33 +470,38 @@ public class ProjetoController {
             content = @Content
         )
     })
-    public ResponseEntity<List<ProjetoResponseDTO>> listarProjetosSemAvaliacao() {
+    public ResponseEntity<?> listarProjetosSemAvaliacao(
+            @Parameter(description = "Cursor da próxima página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "50")
+            @RequestParam(required = false) Integer tamanho) {
         try {
-            List<Projeto> projetos = projetoService.listarProjetosSemAvaliacao();
-
-            if (projetos.isEmpty()) {
-                return ResponseEntity.noContent().build();
-            }
+            CursorPage<ProjetoResponseDTO> pagina = projetoService
+                    .listarProjetosSemAvaliacao(cursor, tamanho);
 
-            List<ProjetoResponseDTO> projetosDTO = projetos.stream()
-                    .map(ProjetoDTO::toProjetoResponseDTO)
-                    .toList();
-
-            return ResponseEntity.ok(projetosDTO);
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     /**
-     * Lista projetos com avaliações.
+     * Lista projetos com avaliações, paginados por cursor.
      *
-     * @return ResponseEntity com lista de projetos com avaliações
+     * @param cursor  cursor da próxima página (cabeçalho X-Next-Cursor da resposta anterior)
+     * @param tamanho quantidade de projetos por página
+     * @return ResponseEntity com a página de projetos com avaliações; na primeira, o total em X-Total-Count
      */
     @GetMapping("/com-avaliacoes")
     @Operation(
         summary = "Listar projetos com avaliações",
-        description = "Retorna todos os projetos que já possuem pelo menos uma avaliação."
+        description = "Retorna uma página dos projetos que já possuem pelo menos uma avaliação. "
+                + "Na primeira página (sem cursor), o total de projetos avaliados é enviado "
+                + "no cabeçalho X-Total-Count."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -377,33 +518,36 @@ public class ProjetoController {
             content = @Content
         )
     })
-    public ResponseEntity<List<ProjetoResponseDTO>> listarProjetosComAvaliacao() {
+    public ResponseEntity<?> listarProjetosComAvaliacao(
+            @Parameter(description = "Cursor da próxima página")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "Quantidade de itens por página (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "50")
+            @RequestParam(required = false) Integer tamanho) {
         try {
-            List<Projeto> projetos = projetoService.listarProjetosComAvaliacao();
+            CursorPage<ProjetoResponseDTO> pagina = projetoService
+                    .listarProjetosComAvaliacao(cursor, tamanho);
 
-            if (projetos.isEmpty()) {
-                return ResponseEntity.noContent().build();
-            }
-
-            List<ProjetoResponseDTO> projetosDTO = projetos.stream()
-                    .map(ProjetoDTO::toProjetoResponseDTO)
-                    .toList();
-
-            return ResponseEntity.ok(projetosDTO);
+            return Paginacao.resposta(pagina);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
     /**
-     * Lista projetos vencedores ordenados por nota.
+     * Lista projetos vencedores na ordem da apuração (média das notas).
      *
+     * @param limite quantidade de projetos do topo
      * @return ResponseEntity com lista de projetos vencedores
      */
     @GetMapping("/vencedores")
     @Operation(
         summary = "Listar projetos vencedores",
-        description = "Retorna projetos vencedores ordenados por nota em ordem decrescente."
+        description = "Retorna os projetos avaliados na ordem do ranking: média das notas em ordem "
+                + "decrescente, com desempate por quantidade de avaliações, maior nota, data de envio e ID."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -418,11 +562,19 @@ public class ProjetoController {
             responseCode = "204",
             description = "Nenhum projeto vencedor encontrado",
             content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limite inválido",
+            content = @Content
         )
     })
-    public ResponseEntity<List<ProjetoResponseDTO>> listarProjetosVencedores() {
+    public ResponseEntity<?> listarProjetosVencedores(
+            @Parameter(description = "Quantidade de projetos do topo (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "10")
+            @RequestParam(required = false) Integer limite) {
         try {
-            List<Projeto> projetos = projetoService.listarProjetosVencedoresPorNotaDesc();
+            List<Projeto> projetos = projetoService.listarProjetosVencedores(limite);
 
             if (projetos.isEmpty()) {
                 return ResponseEntity.noContent().build();
@@ -433,11 +585,105 @@ public class ProjetoController {
                     .toList();
 
             return ResponseEntity.ok(projetosDTO);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        }
+    }
+
+    /**
+     * Apuração dos projetos avaliados com as estatísticas das notas.
+     *
+     * @param limite quantidade de posições do topo
+     * @return ResponseEntity com as posições do ranking ou 204 se não houver avaliações
+     */
+    @GetMapping("/ranking")
+    @Operation(
+        summary = "Apurar ranking dos projetos",
+        description = "Retorna o top-K dos projetos avaliados com média, quantidade de avaliações, "
+                + "menor e maior nota e desvio padrão, lidos do resumo de notas de cada projeto."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Ranking apurado com sucesso",
+            content = @Content(
+                mediaType = "application/json",
+                array = @ArraySchema(schema = @Schema(implementation = ProjetoRankingDTO.class))
+            )
+        ),
+        @ApiResponse(
+            responseCode = "204",
+            description = "Nenhum projeto avaliado",
+            content = @Content
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Limite inválido",
+            content = @Content
+        )
+    })
+    public ResponseEntity<?> apurarRanking(
+            @Parameter(description = "Quantidade de posições do topo (máx. " + CursorPage.TAMANHO_MAXIMO + ")",
+                    example = "10")
+            @RequestParam(required = false) Integer limite) {
+        try {
+            List<ProjetoRankingDTO> ranking = projetoService.apurarRanking(limite);
+
+            if (ranking.isEmpty()) {
+                return ResponseEntity.noContent().build();
+            }
+
+            return ResponseEntity.ok(ranking);
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
 
+    /**
+     * Reconstrói o resumo de notas de todos os projetos a partir das avaliações.
+     *
+     * @param lote quantidade de projetos recalculados por transação
+     * @return ResponseEntity com a quantidade de projetos recalculados
+     */
+    @PostMapping("/resumos/recalcular")
+    @Operation(
+        summary = "Recalcular resumos de notas",
+        description = "Recalcula soma, quantidade, média, maior nota e data da última avaliação "
+                + "de todos os projetos, em lotes. Usado para corrigir divergências no resumo."
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resumos recalculados com sucesso",
+            content = @Content(mediaType = "application/json")
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Tamanho de lote inválido",
+            content = @Content
+        )
+    })
+    public ResponseEntity<?> recalcularResumos(
+            @Parameter(description = "Projetos por lote (máx. " + CursorPage.TAMANHO_MAXIMO + ")", example = "500")
+            @RequestParam(required = false) Integer lote) {
+        try {
+            long recalculados = projetoService.recalcularResumos(lote);
+            return ResponseEntity.ok(Map.of("projetosRecalculados", recalculados));
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest()
+                .body(e.getMessage());
+        } catch (Exception e) {
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+                .body("Erro interno do servidor");
+        }
+    }
+
     /**
      * Adiciona um autor existente a um projeto.
      *
@@ -581,8 +827,8 @@ public class ProjetoController {
             content = @Content
         ),
         @ApiResponse(
-            responseCode = "409",
-            description = "Avaliação já está associada ao projeto",
+            responseCode = "400",
+            description = "Avaliação sem nota ou com nota fora de 0.0 a 10.0",
             content = @Content
         )
     })
@@ -610,7 +856,7 @@ public class ProjetoController {
             return ResponseEntity.status(HttpStatus.NOT_FOUND)
                 .body(e.getMessage());
         } catch (BadRequestException e) {
-            return ResponseEntity.status(HttpStatus.CONFLICT)
+            return ResponseEntity.badRequest()
                 .body(e.getMessage());
         } catch (Exception e) {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
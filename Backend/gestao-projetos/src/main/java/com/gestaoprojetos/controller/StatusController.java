@@ -1,6 +1,7 @@
 package com.gestaoprojetos.controller;
 
 import com.gestaoprojetos.model.Status;
+import com.gestaoprojetos.service.RegistroStatus;
 import com.gestaoprojetos.service.StatusServiceIMP;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -8,10 +9,12 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -21,14 +24,17 @@ public class StatusController {
 
 
     private final StatusServiceIMP statusService;
+    private final RegistroStatus registroStatus;
 
     @Autowired
-    public StatusController(StatusServiceIMP statusService) {
+    public StatusController(StatusServiceIMP statusService, RegistroStatus registroStatus) {
         this.statusService = statusService;
+        this.registroStatus = registroStatus;
     }
 
     /**
      * Endpoint para obter todos os Status disponíveis.
+     * Servido do registro em memória, com ETag forte: se o If-None-Match bater, responde 304 sem corpo.
      * @return ResposenEntity com uma Lista de Status.
      */
     @GetMapping
@@ -39,12 +45,20 @@ public class StatusController {
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = Status.class))),
             @ApiResponse(responseCode = "204", description = "Nenhum Status encontrado", content = @Content),
+            @ApiResponse(responseCode = "304", description = "Lista não mudou desde o ETag informado", content = @Content),
     })
-    public ResponseEntity<List<Status>> listarTodos() {
-        List<Status> statusList = statusService.findAll();
+    public ResponseEntity<List<Status>> listarTodos(WebRequest request) {
+        String etag = registroStatus.getEtag();
+        if (request.checkNotModified(etag)) {
+            return null;
+        }
+        List<Status> statusList = statusService.listarTodos();
         if (statusList.isEmpty()) {
             return ResponseEntity.noContent().build();
         }
-        return ResponseEntity.ok(statusList);
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache())
+                .body(statusList);
     }
 }
@@ -3,11 +3,12 @@ package com.gestaoprojetos.controller;
 
 import com.gestaoprojetos.controller.DTO.UsuarioDTO;
 import com.gestaoprojetos.controller.DTO.UsuarioDTO.UsuarioResponseDTO;
+import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
-import com.gestaoprojetos.model.Pessoa;
+import com.gestaoprojetos.exception.TooManyRequestsException;
 import com.gestaoprojetos.model.Usuario;
+import com.gestaoprojetos.security.UsuarioAutenticado;
 import com.gestaoprojetos.service.UsuarioServiceIMP;
-import com.gestaoprojetos.utils.Tools;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -15,9 +16,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Map;
+
 import static com.gestaoprojetos.controller.DTO.UsuarioDTO.UsuarioRequestDTO;
 
 
@@ -69,19 +75,64 @@ public class UsuarioController {
             @ApiResponse(responseCode = "200", description = "Usuário criado com sucesso",
                     content = @Content(mediaType = "application/json",
                             schema = @Schema(implementation = UsuarioResponseDTO.class))),
-            @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content())})
+            @ApiResponse(responseCode = "400", description = "Requisição inválida", content = @Content()),
+            @ApiResponse(responseCode = "429", description = "Muitas requisições de autenticação", content = @Content())})
     public ResponseEntity<UsuarioResponseDTO> setNewUser(@RequestBody @Valid UsuarioRequestDTO userReq) {
         Usuario usuario = new Usuario();
         usuario.setUsername(userReq.getUsername());
         usuario.setPassword(userReq.getPassword());
-        Pessoa pessoa = Tools.findPessoaById(userReq.getPessoaId());
-        if (pessoa == null) {
+
+        try {
+            Usuario savedUser = usuarioService.registrarUsuario(usuario, userReq.getPessoaId());
+            return ResponseEntity.ok(UsuarioDTO.toUsuarioResponseDTO(savedUser));
+        } catch (BadRequestException e) {
+            // Pessoa inexistente, dados faltando ou usuário já existente
             return ResponseEntity.badRequest().body(null);
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS).header(HttpHeaders.RETRY_AFTER, "1").build();
         }
-        usuario.setPessoa(pessoa);
-
+    }
 
-        Usuario savedUser = usuarioService.registrarUsuario(usuario);
-        return ResponseEntity.ok(UsuarioDTO.toUsuarioResponseDTO(savedUser));
+    /**
+     * Endpoint to change a user's password.
+     * Only the user themself (or an administrator) may change it, and the current password is required.
+     * All tokens issued before the change stop being accepted.
+     *
+     * @param id      the ID of the user
+     * @param body    JSON with the current password in "senhaAtual" and the new one in "senha"
+     * @param usuario principal built from the token sent with the request
+     * @return 204 No Content on success, 401 without a valid token, 403 for another user's ID
+     */
+    @PutMapping("/{id}/senha")
+    @Operation(summary = "Altera a senha do usuário",
+            description = "Troca a senha do usuário autenticado (ou de qualquer usuário, para administradores), "
+                    + "conferindo a senha atual, e revoga todos os tokens JWT emitidos anteriormente.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204", description = "Senha alterada com sucesso", content = @Content()),
+            @ApiResponse(responseCode = "400", description = "Senha inválida ou senha atual incorreta", content = @Content()),
+            @ApiResponse(responseCode = "401", description = "Token inválido ou ausente", content = @Content()),
+            @ApiResponse(responseCode = "403", description = "Sem permissão para alterar este usuário", content = @Content()),
+            @ApiResponse(responseCode = "404", description = "Usuário não encontrado", content = @Content()),
+            @ApiResponse(responseCode = "429", description = "Muitas requisições de autenticação", content = @Content())})
+    public ResponseEntity<?> alterarSenha(@PathVariable Long id, @RequestBody Map<String, String> body,
+                                          @AuthenticationPrincipal UsuarioAutenticado usuario) {
+        if (usuario == null) {
+            return ResponseEntity.status(401).body("Token inválido ou ausente");
+        }
+        if (!usuario.podeAlterarUsuario(id)) {
+            return ResponseEntity.status(403).body("Sem permissão para alterar a senha deste usuário");
+        }
+        try {
+            usuarioService.alterarSenha(id, body.get("senhaAtual"), body.get("senha"));
+            return ResponseEntity.noContent().build();
+        } catch (BadRequestException e) {
+            return ResponseEntity.badRequest().body(e.getMessage());
+        } catch (ResourceNotFoundException e) {
+            return ResponseEntity.notFound().build();
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, "1")
+                    .body(e.getMessage());
+        }
     }
 }
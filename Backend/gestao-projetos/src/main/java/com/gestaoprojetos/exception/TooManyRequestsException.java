@@ -0,0 +1,22 @@
+package com.gestaoprojetos.exception;
+
+public class TooManyRequestsException extends RuntimeException {
+
+    private final long segundosParaNovaTentativa;
+
+    public TooManyRequestsException(String mensagem) {
+        this(mensagem, 1);
+    }
+
+    public TooManyRequestsException(String mensagem, long segundosParaNovaTentativa) {
+        super(mensagem);
+        this.segundosParaNovaTentativa = segundosParaNovaTentativa;
+    }
+
+    /**
+     * Valor sugerido para o cabeçalho Retry-After.
+     */
+    public long getSegundosParaNovaTentativa() {
+        return segundosParaNovaTentativa;
+    }
+}
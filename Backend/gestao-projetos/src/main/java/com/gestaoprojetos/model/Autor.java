@@ -2,16 +2,20 @@ package com.gestaoprojetos.model;
 
 import jakarta.persistence.Entity;
 import jakarta.persistence.ManyToMany;
+import jakarta.persistence.OrderBy;
 import lombok.AllArgsConstructor;
-import lombok.Data;
+import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lombok.Setter;
 import lombok.ToString;
 
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
-@Data
+@Getter
+@Setter
 @ToString(callSuper = true)
 @NoArgsConstructor
 @AllArgsConstructor
@@ -20,11 +24,15 @@ public class Autor extends Pessoa implements Serializable {
 
     //[] TODO: Colocar os Validações de cada campo
 
+    /**
+     * Lado inverso de Projeto.autores: alterar só este Set não grava nada na tabela intermediária.
+     */
     @ManyToMany(mappedBy = "autores")
-    private List<Projeto> projetos = new ArrayList<>();
+    @OrderBy("id")
+    private Set<Projeto> projetos = new LinkedHashSet<>();
 
-    public Autor(Long id, String nome, String CPF, String email, String telefone, List<Projeto> projetos) {
+    public Autor(Long id, String nome, String CPF, String email, String telefone, Collection<Projeto> projetos) {
         super(id, nome, CPF, email, telefone);
-        this.projetos = projetos != null ? projetos : new ArrayList<>();
+        this.projetos = projetos != null ? new LinkedHashSet<>(projetos) : new LinkedHashSet<>();
     }
 }
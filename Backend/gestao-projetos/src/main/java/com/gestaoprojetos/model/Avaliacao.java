@@ -8,6 +8,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 
 import java.io.Serializable;
@@ -15,6 +17,7 @@ import java.time.LocalDate;
 @NoArgsConstructor
 @Data
 @Entity(name = "_avaliacao")
+@Table(indexes = @Index(name = "idx_avaliacao_projeto", columnList = "projeto_id"))
 public class Avaliacao implements Serializable {
 
     public Avaliacao(String parecer, Double nota) {
@@ -26,7 +29,12 @@ public class Avaliacao implements Serializable {
     //[] TODO: Colocar os Validações de cada campo
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(
+            name = "avaliacao_seq",
+            sequenceName = "avaliacao_seq",
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "avaliacao_seq")
     @EqualsAndHashCode.Include
     private Long id;
 
@@ -47,6 +55,7 @@ public class Avaliacao implements Serializable {
     @NotNull(message = "O avaliador é obrigatório")
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "avaliador_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)   // removida pelo banco junto com o avaliador
     @EqualsAndHashCode.Include
     private Avaliador avaliador;
 
@@ -58,5 +67,6 @@ public class Avaliacao implements Serializable {
     @NotNull(message = "O projeto é obrigatório")
     @ManyToOne(fetch = FetchType.LAZY, optional = false)
     @JoinColumn(name = "projeto_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)   // removida pelo banco junto com o projeto
     private Projeto projeto;
 }
@@ -6,6 +6,8 @@ import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.time.LocalDate;
@@ -16,12 +18,19 @@ import java.util.List;
 @AllArgsConstructor
 @NoArgsConstructor
 @Entity(name = "_cronograma")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cronograma")
 public class Cronograma implements Serializable {
 
     //[] TODO: Colocar os Validações de cada campo
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(
+            name = "cronograma_seq",
+            sequenceName = "cronograma_seq",
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "cronograma_seq")
     private Long id;
 
     @NotNull(message = "A data de início é obrigatória")
@@ -52,6 +61,7 @@ public class Cronograma implements Serializable {
      * garante que, se você tirar um Prêmio da lista, ele seja excluído).
      */
     @OneToMany(mappedBy = "cronograma", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "cronograma.premios")
     private List<Premio> premios = new ArrayList<>();
 
     public enum StatusCronograma {
@@ -3,6 +3,9 @@ package com.gestaoprojetos.model;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.proxy.HibernateProxy;
 
 import java.io.Serializable;
 
@@ -13,6 +16,9 @@ import java.io.Serializable;
 @Builder
 @Entity(name = "_pessoa")
 @Inheritance(strategy = InheritanceType.TABLE_PER_CLASS)
+// Cache de segundo nível na raiz da hierarquia: vale para Autor e Avaliador (região "pessoa", ver ehcache.xml)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "pessoa")
 public class Pessoa implements Serializable {
 
     //[] TODO: Colocar os Validações de cada campo
@@ -21,7 +27,7 @@ public class Pessoa implements Serializable {
     @SequenceGenerator(
             name = "pessoa_seq",           // Nome do gerador
             sequenceName = "pessoa_seq",   // Nome da sequência no banco
-            allocationSize = 1             // Incremento (ajuste conforme necessário)
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
     )
     @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "pessoa_seq")
     private Long id;
@@ -40,5 +46,34 @@ public class Pessoa implements Serializable {
     @Pattern(regexp = "^[\\w-\\.]+@[\\w-]+\\.[a-zA-Z]{2,}$",
             message = "Email deve estar no formato exp@exp.exp")
     private String email;
+
+    /**
+     * Igualdade pelo ID (e pela classe concreta: Autor e Avaliador não se confundem), para que
+     * as pessoas possam ficar em Set (ex.: Projeto.autores). Os métodos são final para que um
+     * proxy do Hibernate os execute sem ser inicializado: getId() do proxy não vai ao banco.
+     * Uma pessoa ainda sem ID só é igual a si mesma. O hashCode depende só da classe: o ID é
+     * atribuído pela sequence ao persistir, e a pessoa já pode estar em um Set nesse momento.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Pessoa outra) || classeEfetiva(this) != classeEfetiva(outra)) {
+            return false;
+        }
+        return getId() != null && getId().equals(outra.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return classeEfetiva(this).hashCode();
+    }
+
+    private static Class<?> classeEfetiva(Object pessoa) {
+        return pessoa instanceof HibernateProxy proxy
+                ? proxy.getHibernateLazyInitializer().getPersistentClass()
+                : pessoa.getClass();
+    }
 }
 
@@ -6,17 +6,28 @@ import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
 
 import java.io.Serializable;
 
 @Data
 @Entity(name = "_premio")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "premio")
 public class Premio implements Serializable {
 
     //[] TODO: Colocar os Validações de cada campo
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(
+            name = "premio_seq",
+            sequenceName = "premio_seq",
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "premio_seq")
     private Long id;
 
     @NotBlank(message = "O nome é obrigatório e não pode ficar em branco")
@@ -36,5 +47,6 @@ public class Premio implements Serializable {
     @NotNull(message = "O cronograma é obrigatório")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "cronograma_id", nullable = false)
+    @OnDelete(action = OnDeleteAction.CASCADE)   // removido pelo banco junto com o cronograma
     private Cronograma cronograma;
 }
\ No newline at end of file
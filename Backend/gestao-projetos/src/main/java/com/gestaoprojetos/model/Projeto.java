@@ -5,22 +5,52 @@ import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.io.Serializable;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 
 
+/**
+ * Planos de carga por caso de uso:
+ * - listagem: as coleções são carregadas em lote (@BatchSize), uma consulta por coleção para a página inteira;
+ * - detalhe ({@link #GRAFO_DETALHE}): autores via JOIN, avaliações em lote;
+ * - ranking: ordenado pelo {@link ResumoNotas} da própria linha, coleções em lote.
+ * O grafo busca uma coleção só: com autores e avaliações no mesmo JOIN, cada linha do projeto
+ * viria repetida autores × avaliações vezes (e avaliações, uma List, não pode ir no JOIN com outra bag).
+ */
 @Data
 @Entity(name = "_projeto")
+@Table(indexes = @Index(
+        name = "idx_projeto_ranking",
+        columnList = "media_notas DESC, quantidade_avaliacoes DESC, nota_maxima DESC, data_envio, id"
+))
 @NoArgsConstructor
+@NamedEntityGraph(name = Projeto.GRAFO_DETALHE, attributeNodes = @NamedAttributeNode("autores"))
 public class Projeto implements Serializable {
 
+    public static final String GRAFO_DETALHE = "Projeto.detalhe";
+
+    /**
+     * Projetos por lote na carga das coleções; o mesmo valor do tamanho máximo de página
+     * (CursorPage.TAMANHO_MAXIMO), para que uma página inteira seja carregada em uma consulta.
+     */
+    public static final int TAMANHO_LOTE = 500;
+
     //[] TODO: Colocar os Validações de cada campo
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(
+            name = "projeto_seq",
+            sequenceName = "projeto_seq",
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projeto_seq")
     private Long id;
 
     @NotBlank(message = "O título do projeto é obrigatório")
@@ -39,6 +69,13 @@ public class Projeto implements Serializable {
     @Column(name = "area_tematica", nullable = false)
     private String areaTematica;
 
+    /**
+     * Soma, quantidade, média, maior nota e data da última avaliação,
+     * mantidos a cada inclusão/alteração/remoção de Avaliacao.
+     */
+    @Embedded
+    private ResumoNotas resumoNotas = new ResumoNotas();
+
     /**
      * Um projeto possui várias avaliações.
      * O atributo mappedBy = "projeto" indica que a FK está em Avaliacao.projeto.
@@ -51,26 +88,34 @@ public class Projeto implements Serializable {
             orphanRemoval = true,
             fetch = FetchType.LAZY
     )
+    @BatchSize(size = TAMANHO_LOTE)
     private List<Avaliacao> avaliacoes = new ArrayList<>();
 
     /**
      * Muitos autores podem estar em muitos projetos (N:N).
-     * A tabela intermediária se chama "_projeto_autor".
+     * A tabela intermediária se chama "_projeto_autor", com chave primária (autor_id, projeto_id).
+     * Como Set, incluir ou remover um autor grava só a linha dele; uma List (bag) apagaria todas
+     * as linhas do projeto e inseriria de novo as restantes.
      */
     @ManyToMany(fetch = FetchType.LAZY)
     @JoinTable(
             name = "_projeto_autor",
             joinColumns = @JoinColumn(name = "projeto_id"),
-            inverseJoinColumns = @JoinColumn(name = "autor_id")
+            inverseJoinColumns = @JoinColumn(name = "autor_id"),
+            // O Hibernate ordena as colunas da chave como (autor_id, projeto_id): o índice atende a carga por projeto
+            indexes = @Index(name = "idx_projeto_autor_projeto", columnList = "projeto_id")
     )
-    private List<Autor> autores = new ArrayList<>();
+    @BatchSize(size = TAMANHO_LOTE)
+    @OrderBy("id")
+    private Set<Autor> autores = new LinkedHashSet<>();
+
     public Projeto(
             Long id,
             String titulo,
             String resumo,
             LocalDate dataEnvio,
             String areaTematica,
-            List<Autor> autores,
+            Collection<Autor> autores,
             List<Avaliacao> avaliacoes
     ) {
         this.id = id;
@@ -78,7 +123,25 @@ public class Projeto implements Serializable {
         this.resumo = resumo;
         this.dataEnvio = dataEnvio;
         this.areaTematica = areaTematica;
-        this.autores = autores != null ? autores : new ArrayList<>();
+        this.autores = autores != null ? new LinkedHashSet<>(autores) : new LinkedHashSet<>();
         this.avaliacoes = avaliacoes != null ? avaliacoes : new ArrayList<>();
     }
+
+    /**
+     * Igualdade pelo ID, como em {@link Pessoa#equals(Object)}: final para funcionar em proxies
+     * sem inicializá-los; um projeto ainda sem ID só é igual a si mesmo. O hashCode é constante,
+     * pelo mesmo motivo do de Pessoa: não muda quando o ID é atribuído.
+     */
+    @Override
+    public final boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        return o instanceof Projeto outro && getId() != null && getId().equals(outro.getId());
+    }
+
+    @Override
+    public final int hashCode() {
+        return Projeto.class.hashCode();
+    }
 }
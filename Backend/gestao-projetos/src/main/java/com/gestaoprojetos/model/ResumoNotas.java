@@ -0,0 +1,63 @@
+package com.gestaoprojetos.model;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Resumo desnormalizado das notas de um Projeto, gravado na própria linha de _projeto:
+ * tudo o que o ranking e a lista de vencedores exibem e ordenam.
+ * <p>
+ * As colunas não são atualizáveis pela entidade: só mudam pelos UPDATEs atômicos de
+ * {@link com.gestaoprojetos.repository.ProjetoRepository} (registrarNota, removerNota e
+ * recalcularResumos), evitando que um Projeto carregado antes sobrescreva valores mais novos.
+ */
+@Data
+@Embeddable
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResumoNotas implements Serializable {
+
+    @ColumnDefault("0")
+    @Column(name = "soma_notas", nullable = false, updatable = false)
+    private double somaNotas;
+
+    @ColumnDefault("0")
+    @Column(name = "quantidade_avaliacoes", nullable = false, updatable = false)
+    private long quantidadeAvaliacoes;
+
+    /**
+     * somaNotas / quantidadeAvaliacoes, ou null se o projeto ainda não foi avaliado.
+     */
+    @Column(name = "media_notas", updatable = false)
+    private Double mediaNotas;
+
+    /**
+     * Maior nota recebida; usada como critério de desempate do ranking.
+     */
+    @Column(name = "nota_maxima", updatable = false)
+    private Double notaMaxima;
+
+    /**
+     * Menor nota recebida; exibida no ranking.
+     */
+    @Column(name = "nota_minima", updatable = false)
+    private Double notaMinima;
+
+    /**
+     * Soma dos quadrados das notas; com somaNotas e quantidadeAvaliacoes dá o desvio padrão
+     * do ranking. Acumulada por soma e subtração: recalcularResumos corrige o arredondamento.
+     */
+    @ColumnDefault("0")
+    @Column(name = "soma_quadrados", nullable = false, updatable = false)
+    private double somaQuadrados;
+
+    @Column(name = "data_ultima_avaliacao", updatable = false)
+    private LocalDate dataUltimaAvaliacao;
+}
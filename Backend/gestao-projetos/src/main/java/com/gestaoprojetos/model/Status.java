@@ -1,5 +1,6 @@
 package com.gestaoprojetos.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import lombok.AllArgsConstructor;
@@ -12,6 +13,8 @@ import java.io.Serializable;
 @Entity(name = "_status")
 @NoArgsConstructor
 @AllArgsConstructor
+// Avaliacao.status costuma ser um proxy (LAZY / RegistroStatus.referencia): ignora os campos do proxy no JSON
+@JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Status implements Serializable {
 
     @Id
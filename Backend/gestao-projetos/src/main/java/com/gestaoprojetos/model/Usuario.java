@@ -28,7 +28,12 @@ public class Usuario implements Serializable {
      */
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SequenceGenerator(
+            name = "usuario_seq",
+            sequenceName = "usuario_seq",
+            allocationSize = 50            // Mesmo tamanho do lote JDBC (hibernate.jdbc.batch_size)
+    )
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "usuario_seq")
     private Long id;
 
     @NotBlank(message = "O username é obrigatório")
@@ -57,6 +62,14 @@ public class Usuario implements Serializable {
     @JoinColumn(name = "pessoa_id", nullable = false, unique = true)
     private Pessoa pessoa;
 
+    /**
+     * Versão dos tokens do usuário, gravada no JWT.
+     * Incrementar este valor (logout, troca de senha) invalida todos os tokens já emitidos.
+     */
+    @JsonIgnore
+    @Column(name = "token_versao", nullable = false)
+    private long tokenVersao;
+
     /**
      * Construtor útil para criar um novo usuário em código.
      */
@@ -0,0 +1,14 @@
+package com.gestaoprojetos.repository;
+
+/**
+ * Projeção de um autor com o ID do projeto em que está: monta a lista de autores
+ * de ProjetoResponseDTO sem carregar as entidades Autor.
+ */
+public interface AutorDoProjetoView {
+
+    Long getProjetoId();
+
+    Long getId();
+
+    String getNome();
+}
@@ -2,8 +2,20 @@ package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Autor;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
-public interface AutorRepository extends JpaRepository<Autor, Long> {
+public interface AutorRepository extends JpaRepository<Autor, Long>, JpaSpecificationExecutor<Autor> {
+
+    /**
+     * Dos IDs informados, retorna os que existem (validação em conjunto, uma consulta).
+     */
+    @Query("SELECT a.id FROM _autor a WHERE a.id IN :ids")
+    Set<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
 }
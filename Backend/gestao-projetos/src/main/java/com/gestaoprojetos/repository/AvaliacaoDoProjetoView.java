@@ -0,0 +1,16 @@
+package com.gestaoprojetos.repository;
+
+/**
+ * Projeção de uma avaliação com o ID do seu projeto: monta a lista de avaliações
+ * de ProjetoResponseDTO sem carregar as entidades Avaliacao.
+ */
+public interface AvaliacaoDoProjetoView {
+
+    Long getProjetoId();
+
+    Long getId();
+
+    Double getNota();
+
+    String getParecer();
+}
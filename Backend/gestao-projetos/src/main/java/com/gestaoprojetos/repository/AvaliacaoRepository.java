@@ -2,13 +2,16 @@ package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Avaliacao;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
 import java.util.List;
 
 @Repository
-public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
+public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long>, JpaSpecificationExecutor<Avaliacao> {
     /**
      * Exemplo: busca todas as avaliações feitas em uma data específica.
      */
@@ -24,4 +27,11 @@ public interface AvaliacaoRepository extends JpaRepository<Avaliacao, Long> {
      * Exemplo: busca todas as avaliações de um avaliador específico.
      */
     List<Avaliacao> findByAvaliadorId(Long avaliadorId);
+
+    /**
+     * Projetos que têm avaliações do avaliador; o resumo de notas deles muda quando o
+     * avaliador é removido.
+     */
+    @Query("SELECT DISTINCT a.projeto.id FROM _avaliacao a WHERE a.avaliador.id = :avaliadorId")
+    List<Long> findProjetoIdsPorAvaliador(@Param("avaliadorId") Long avaliadorId);
 }
@@ -3,10 +3,22 @@ package com.gestaoprojetos.repository;
 import com.gestaoprojetos.model.Avaliador;
 import jakarta.validation.constraints.Pattern;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.Set;
+
 @Repository
-public interface AvaliadorRepository extends JpaRepository<Avaliador, Long> {
+public interface AvaliadorRepository extends JpaRepository<Avaliador, Long>, JpaSpecificationExecutor<Avaliador> {
     boolean existsByCpf(@Pattern(regexp = "^(\\d{3}\\.\\d{3}\\.\\d{3}-\\d{2}|\\d{11})$",
             message = "CPF deve estar no formato 000.000.000-00 ou 00000000000") String cpf);
+
+    /**
+     * Dos IDs informados, retorna os que existem (validação em conjunto, uma consulta).
+     */
+    @Query("SELECT a.id FROM _avaliador a WHERE a.id IN :ids")
+    Set<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
 }
@@ -1,20 +1,46 @@
 package com.gestaoprojetos.repository;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaDelete;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.hibernate.Hibernate;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.query.NativeQuery;
+import org.springframework.core.GenericTypeResolver;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Function;
 
 /**
  * BasicRepositoryImpl é a classe genérica que encapsula
  * operações CRUD básicas para qualquer repositório JPA.
  *
- * @param <T>  tipo de repositório (que deve estender JpaRepository)
+ * @param <T>  tipo de repositório (que deve estender JpaRepository e JpaSpecificationExecutor)
  * @param <E>  tipo da entidade (por exemplo, Cliente, Produto, etc.)
  * @param <ID> tipo do identificador da entidade (por exemplo, Long, Integer, String)
+ * <p>
+ * Como no SimpleJpaRepository, as leituras rodam em transação somente leitura (o Hibernate
+ * carrega as entidades como read-only: sem snapshot e sem flush/dirty checking no commit);
+ * os métodos de escrita abrem transação de escrita.
  */
+@Transactional(readOnly = true)
 public abstract class BasicRepositoryIMP<
-        T extends JpaRepository<E, ID>,
+        T extends JpaRepository<E, ID> & JpaSpecificationExecutor<E>,
         E,
         ID
         > {
@@ -24,12 +50,23 @@ public abstract class BasicRepositoryIMP<
      */
     private final T repository;
 
+    /**
+     * Classe da entidade E, usada pelas consultas de projeção.
+     */
+    private final Class<E> tipoEntidade;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
     /**
      * Construtor fará com que o Spring injete o bean de T automaticamente.
      * Ao criar uma subclasse, você deve chamar super(meuRepositórioConcreto).
      */
+    @SuppressWarnings("unchecked")
     protected BasicRepositoryIMP(T repository) {
         this.repository = repository;
+        Class<?>[] tipos = GenericTypeResolver.resolveTypeArguments(getClass(), BasicRepositoryIMP.class);
+        this.tipoEntidade = tipos != null ? (Class<E>) tipos[1] : null;
     }
 
     /**
@@ -43,6 +80,7 @@ public abstract class BasicRepositoryIMP<
     /**
      * Salva (ou atualiza) uma entidade.
      */
+    @Transactional
     public E save(E entity) {
         return repository.save(entity);
     }
@@ -55,22 +93,240 @@ public abstract class BasicRepositoryIMP<
     }
 
     /**
-     * Retorna todos os registros da entidade em forma de List<E>.
+     * Retorna todos os registros da entidade em forma de List<E>, sem limite.
+     * Protegido: as listagens da API usam {@link #findPage(String, Integer)}; só serve para
+     * tabelas de referência pequenas, lidas inteiras de propósito.
      */
-    public List<E> findAll() {
+    protected List<E> findAll() {
         return repository.findAll();
     }
 
+    /**
+     * Retorna uma página de registros ordenada por ID, usando paginação por cursor.
+     * Nunca carrega a tabela inteira: no máximo {@link CursorPage#TAMANHO_MAXIMO} linhas por chamada.
+     *
+     * @param cursor  cursor devolvido pela página anterior (null para a primeira página)
+     * @param tamanho quantidade de itens desejada (null para o padrão)
+     */
+    public CursorPage<E> findPage(String cursor, Integer tamanho) {
+        return findPage(null, cursor, tamanho, Sort.Direction.ASC, "id");
+    }
+
+    /**
+     * Paginação por cursor com filtro e ordenação personalizados.
+     * A última chave de ordenação deve ser única (normalmente "id") para que o cursor seja estável.
+     *
+     * @param filtro  Specification adicional (pode ser null)
+     * @param cursor  cursor devolvido pela página anterior (null para a primeira página)
+     * @param tamanho quantidade de itens desejada (null para o padrão)
+     * @param direcao direção da ordenação, aplicada a todas as chaves
+     * @param chaves  atributos da entidade usados na ordenação e no cursor
+     */
+    protected CursorPage<E> findPage(Specification<E> filtro, String cursor, Integer tamanho,
+                                     Sort.Direction direcao, String... chaves) {
+        int limite = CursorPage.normalizarTamanho(tamanho);
+        Specification<E> spec = Specification.where(filtro).and(Keyset.apos(cursor, direcao, chaves));
+
+        // Busca uma linha a mais apenas para saber se existe próxima página
+        List<E> linhas = repository.findBy(spec, consulta -> consulta
+                .sortBy(Keyset.ordenacao(direcao, chaves))
+                .limit(limite + 1)
+                .all());
+
+        return pagina(linhas, limite, direcao, chaves);
+    }
+
+    /**
+     * Paginação por cursor (ordenada por ID) de uma projeção: o SELECT traz só as colunas
+     * usadas pela projeção e os objetos devolvidos não são entidades gerenciadas (sem snapshot
+     * para dirty checking). O cursor é o mesmo de {@link #findPage(String, Integer)}.
+     *
+     * @param projecao seleção do resultado; o tipo devolvido precisa ter a propriedade "id".
+     * @param cursor   cursor devolvido pela página anterior (null para a primeira página)
+     * @param tamanho  quantidade de itens desejada (null para o padrão)
+     */
+    protected <R> CursorPage<R> findPage(Projecao<E, R> projecao, String cursor, Integer tamanho) {
+        return findPage(projecao, null, cursor, tamanho, Sort.Direction.ASC, "id");
+    }
+
+    /**
+     * Paginação por cursor de uma projeção, com filtro e ordenação personalizados, como em
+     * {@link #findPage(Specification, String, Integer, Sort.Direction, String...)}: o cursor
+     * é o mesmo da página de entidades.
+     *
+     * @param projecao seleção do resultado; o tipo devolvido precisa ter as propriedades das chaves.
+     * @param filtro   Specification adicional (pode ser null)
+     * @param cursor   cursor devolvido pela página anterior (null para a primeira página)
+     * @param tamanho  quantidade de itens desejada (null para o padrão)
+     * @param direcao  direção da ordenação, aplicada a todas as chaves
+     * @param chaves   atributos da entidade usados na ordenação e no cursor
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> CursorPage<R> findPage(Projecao<E, R> projecao, Specification<E> filtro, String cursor,
+                                         Integer tamanho, Sort.Direction direcao, String... chaves) {
+        int limite = CursorPage.normalizarTamanho(tamanho);
+        Specification<E> spec = Specification.where(filtro).and(Keyset.apos(cursor, direcao, chaves));
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery();
+        Root<E> root = query.from(tipoEntidade);
+        query.select(projecao.selecionar(root, cb));
+        Predicate condicao = spec.toPredicate(root, query, cb);
+        if (condicao != null) {
+            query.where(condicao);
+        }
+        List<Order> ordem = new ArrayList<>(chaves.length);
+        for (String chave : chaves) {
+            ordem.add(direcao.isAscending() ? cb.asc(root.get(chave)) : cb.desc(root.get(chave)));
+        }
+        query.orderBy(ordem);
+
+        List<R> linhas = (List<R>) entityManager.createQuery(query)
+                .setMaxResults(limite + 1)
+                .getResultList();
+        return pagina(linhas, limite, direcao, chaves);
+    }
+
+    /**
+     * Busca a projeção de uma entidade pelo ID, sem carregar a entidade.
+     *
+     * @return projeção da linha, ou vazio se não existir.
+     */
+    @SuppressWarnings("unchecked")
+    protected <R> Optional<R> findById(ID id, Projecao<E, R> projecao) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Object> query = cb.createQuery();
+        Root<E> root = query.from(tipoEntidade);
+        query.select(projecao.selecionar(root, cb))
+                .where(cb.equal(root.get("id"), id));
+
+        return entityManager.createQuery(query).getResultStream()
+                .findFirst()
+                .map(linha -> (R) linha);
+    }
+
+    private static <R> CursorPage<R> pagina(List<R> linhas, int limite, Sort.Direction direcao, String[] chaves) {
+        if (linhas.size() <= limite) {
+            return new CursorPage<>(linhas, null);
+        }
+        List<R> itens = linhas.subList(0, limite);
+        return new CursorPage<>(itens, Keyset.codificar(itens.get(limite - 1), direcao, chaves));
+    }
+
+    /**
+     * Projeção de E em R montada na própria consulta (ex.: {@code cb.construct(Dto.class, ...)}).
+     */
+    @FunctionalInterface
+    protected interface Projecao<E, R> {
+        Selection<R> selecionar(Root<E> root, CriteriaBuilder cb);
+    }
+
+    /**
+     * Projeção por construtor: chama o construtor de {@code tipo} com os atributos na ordem
+     * informada. Atributos de associações ("projeto.titulo") viram um INNER JOIN.
+     */
+    protected static <E, R> Projecao<E, R> construtor(Class<R> tipo, String... atributos) {
+        return (root, cb) -> cb.construct(tipo, caminhos(root, atributos));
+    }
+
+    /**
+     * Caminhos (Path) dos atributos a partir da raiz da consulta.
+     */
+    protected static Selection<?>[] caminhos(Root<?> root, String... atributos) {
+        Selection<?>[] caminhos = new Selection<?>[atributos.length];
+        for (int i = 0; i < atributos.length; i++) {
+            Path<?> caminho = root;
+            for (String parte : atributos[i].split("\\.")) {
+                caminho = caminho.get(parte);
+            }
+            caminhos[i] = caminho;
+        }
+        return caminhos;
+    }
+
+    /**
+     * Inicializa as associações LAZY que a resposta da API usa. Sem Open Session in View
+     * (spring.jpa.open-in-view=false), a conversão para DTO no controller roda depois da
+     * transação, sem sessão para carregá-las. Coleções com @BatchSize carregam o lote inteiro
+     * na primeira inicialização.
+     *
+     * @return a própria entidade.
+     */
+    @SafeVarargs
+    protected static <X> X carregar(X entidade, Function<? super X, ?>... associacoes) {
+        for (Function<? super X, ?> associacao : associacoes) {
+            Hibernate.initialize(associacao.apply(entidade));
+        }
+        return entidade;
+    }
+
+    /**
+     * {@link #carregar(Object, Function[])} para cada item da página.
+     *
+     * @return a própria página.
+     */
+    @SafeVarargs
+    protected static <X> CursorPage<X> carregarItens(CursorPage<X> pagina, Function<? super X, ?>... associacoes) {
+        pagina.getItens().forEach(item -> carregar(item, associacoes));
+        return pagina;
+    }
+
     /**
      * Deleta por ID.
      */
+    @Transactional
     public void deleteById(ID id) {
         repository.deleteById(id);
     }
 
+    /**
+     * Deleta por ID com um único DELETE, sem carregar a entidade antes.
+     * Não há cascade nem orphanRemoval: dependentes precisam ser removidos antes pelo chamador
+     * (ou pelo banco; ver {@link #deleteByIdDireto(Object, Class[])}).
+     * Linhas da entidade em tabelas intermediárias de @ManyToMany (dos dois lados) são removidas
+     * pelo Hibernate, com um DELETE a mais por tabela.
+     * Entidades no cache de segundo nível têm a região inteira invalidada (operação em massa).
+     *
+     * @return quantidade de linhas removidas; 0 se não existia entidade com esse ID.
+     */
+    @Transactional
+    protected int deleteByIdDireto(ID id) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaDelete<E> delete = cb.createCriteriaDelete(tipoEntidade);
+        Root<E> root = delete.from(tipoEntidade);
+        delete.where(cb.equal(root.get("id"), id));
+        return entityManager.createQuery(delete).executeUpdate();
+    }
+
+    /**
+     * Como {@link #deleteByIdDireto(Object)}, para entidades cujos dependentes são removidos pelo
+     * banco (ON DELETE CASCADE). O Hibernate não enxerga essas linhas: as classes dos dependentes
+     * entram como sincronizadas no DELETE, e o cache de segundo nível delas (entidades, coleções
+     * e consultas) é invalidado como numa operação em massa sobre elas.
+     * O DELETE é nativo: linhas em tabelas intermediárias de @ManyToMany não são removidas.
+     *
+     * @param removidasPeloBanco entidades apagadas em cascata pelo banco junto com esta.
+     * @return quantidade de linhas removidas; 0 se não existia entidade com esse ID.
+     */
+    @Transactional
+    protected int deleteByIdDireto(ID id, Class<?>... removidasPeloBanco) {
+        String tabela = ((AbstractEntityPersister) entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getMappingMetamodel()
+                .getEntityDescriptor(tipoEntidade)).getTableName();
+        NativeQuery<?> delete = entityManager.createNativeQuery("DELETE FROM " + tabela + " WHERE id = :id")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedEntityClass(tipoEntidade);
+        for (Class<?> dependente : removidasPeloBanco) {
+            delete.addSynchronizedEntityClass(dependente);
+        }
+        return delete.setParameter("id", id).executeUpdate();
+    }
+
     /**
      * Deleta a entidade passada como parâmetro.
      */
+    @Transactional
     public void delete(E entity) {
         repository.delete(entity);
     }
@@ -2,10 +2,11 @@ package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Cronograma;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.Optional;
 
-public interface CronogramaRepository extends JpaRepository<Cronograma, Long> {
+public interface CronogramaRepository extends JpaRepository<Cronograma, Long>, JpaSpecificationExecutor<Cronograma> {
 
     /**
      * Busca um Cronograma baseado no ID de um Premio que pertence a ele.
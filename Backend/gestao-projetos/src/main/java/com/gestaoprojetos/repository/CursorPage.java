@@ -0,0 +1,80 @@
+package com.gestaoprojetos.repository;
+
+import com.gestaoprojetos.exception.BadRequestException;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Página de resultados obtida por paginação de cursor (keyset).
+ * Em vez de OFFSET, a próxima página é buscada a partir dos valores
+ * da última linha retornada, codificados em {@code nextCursor}.
+ *
+ * @param <T> tipo dos itens da página
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CursorPage<T> {
+
+    /**
+     * Quantidade de itens usada quando o cliente não informa o tamanho da página.
+     */
+    public static final int TAMANHO_PADRAO = 50;
+
+    /**
+     * Limite superior do tamanho da página; valores maiores são reduzidos a este.
+     * {@link com.gestaoprojetos.model.Projeto#TAMANHO_LOTE} usa o mesmo valor.
+     */
+    public static final int TAMANHO_MAXIMO = 500;
+
+    private List<T> itens;
+
+    /**
+     * Cursor opaco para buscar a próxima página, ou null se esta for a última.
+     */
+    private String nextCursor;
+
+    /**
+     * Total de registros do filtro, quando calculado (só na primeira página), ou null.
+     */
+    private Long total;
+
+    public CursorPage(List<T> itens, String nextCursor) {
+        this(itens, nextCursor, null);
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public boolean isEmpty() {
+        return itens == null || itens.isEmpty();
+    }
+
+    /**
+     * Converte os itens da página mantendo o mesmo cursor e total.
+     */
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> conversor) {
+        List<R> convertidos = itens.stream().<R>map(conversor).toList();
+        return new CursorPage<>(convertidos, nextCursor, total);
+    }
+
+    /**
+     * Aplica o tamanho padrão e o limite máximo ao tamanho solicitado.
+     *
+     * @throws BadRequestException se o tamanho for menor que 1.
+     */
+    public static int normalizarTamanho(Integer tamanho) {
+        if (tamanho == null) {
+            return TAMANHO_PADRAO;
+        }
+        if (tamanho < 1) {
+            throw new BadRequestException("O tamanho da página deve ser maior que zero.");
+        }
+        return Math.min(tamanho, TAMANHO_MAXIMO);
+    }
+}
@@ -0,0 +1,122 @@
+package com.gestaoprojetos.repository;
+
+import com.gestaoprojetos.exception.BadRequestException;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.regex.Pattern;
+
+/**
+ * Utilitário interno da paginação por cursor (keyset).
+ * <p>
+ * O cursor é o Base64 (URL-safe) de "DIRECAO:chave1,chave2|valor1|valor2".
+ * A assinatura (direção + chaves) impede que um cursor gerado para uma
+ * ordenação seja reaproveitado em outra.
+ * <p>
+ * A última chave deve ser única (normalmente "id") para que a ordenação seja estável.
+ */
+final class Keyset {
+
+    private static final String SEPARADOR = "|";
+
+    private Keyset() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    static Sort ordenacao(Sort.Direction direcao, String[] chaves) {
+        return Sort.by(direcao, chaves);
+    }
+
+    /**
+     * Monta o predicado "linhas depois do cursor":
+     * (k1 > v1) OR (k1 = v1 AND k2 > v2) OR ...
+     * Retorna null quando não há cursor (primeira página).
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static <E> Specification<E> apos(String cursor, Sort.Direction direcao, String[] chaves) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        String[] valores = decodificar(cursor, direcao, chaves);
+
+        return (root, query, cb) -> {
+            List<Predicate> alternativas = new ArrayList<>();
+            for (int i = 0; i < chaves.length; i++) {
+                List<Predicate> condicoes = new ArrayList<>();
+                for (int j = 0; j < i; j++) {
+                    Path<Comparable> anterior = root.get(chaves[j]);
+                    condicoes.add(cb.equal(anterior, converter(valores[j], anterior.getJavaType())));
+                }
+                Path<Comparable> atual = root.get(chaves[i]);
+                Comparable valor = converter(valores[i], atual.getJavaType());
+                condicoes.add(direcao.isAscending()
+                        ? cb.greaterThan(atual, valor)
+                        : cb.lessThan(atual, valor));
+                alternativas.add(cb.and(condicoes.toArray(new Predicate[0])));
+            }
+            return cb.or(alternativas.toArray(new Predicate[0]));
+        };
+    }
+
+    /**
+     * Gera o cursor a partir da última entidade da página.
+     */
+    static String codificar(Object entidade, Sort.Direction direcao, String[] chaves) {
+        BeanWrapper wrapper = PropertyAccessorFactory.forBeanPropertyAccess(entidade);
+        StringJoiner conteudo = new StringJoiner(SEPARADOR);
+        conteudo.add(assinatura(direcao, chaves));
+        for (String chave : chaves) {
+            conteudo.add(String.valueOf(wrapper.getPropertyValue(chave)));
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(conteudo.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodificar(String cursor, Sort.Direction direcao, String[] chaves) {
+        String conteudo;
+        try {
+            conteudo = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Cursor inválido: " + cursor);
+        }
+
+        String[] partes = conteudo.split(Pattern.quote(SEPARADOR), -1);
+        if (partes.length != chaves.length + 1 || !partes[0].equals(assinatura(direcao, chaves))) {
+            throw new BadRequestException("Cursor inválido para a ordenação solicitada.");
+        }
+        return Arrays.copyOfRange(partes, 1, partes.length);
+    }
+
+    private static String assinatura(Sort.Direction direcao, String[] chaves) {
+        return direcao.name() + ":" + String.join(",", chaves);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static Comparable converter(String valor, Class<?> tipo) {
+        try {
+            if (Long.class.equals(tipo) || long.class.equals(tipo)) {
+                return Long.valueOf(valor);
+            }
+            if (Integer.class.equals(tipo) || int.class.equals(tipo)) {
+                return Integer.valueOf(valor);
+            }
+            if (LocalDate.class.equals(tipo)) {
+                return LocalDate.parse(valor);
+            }
+            return valor;
+        } catch (RuntimeException e) {
+            throw new BadRequestException("Cursor inválido: valor '" + valor + "' não corresponde à ordenação.");
+        }
+    }
+}
@@ -1,7 +1,11 @@
 package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Premio;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -9,8 +13,29 @@ import java.util.Optional;
 
 
 @Repository
-public interface PremioRepository extends JpaRepository<Premio, Long> {
+public interface PremioRepository extends JpaRepository<Premio, Long>, JpaSpecificationExecutor<Premio> {
+
+    /**
+     * Região do cache de consultas (configurada em ehcache.xml).
+     */
+    String REGIAO_CONSULTAS = "premio-consultas";
+
+    /**
+     * Resultado no cache de consultas (região "premio-consultas"); as entidades vêm da região "premio".
+     * Invalidado automaticamente quando _premio é alterada.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CONSULTAS)
+    })
     Optional<Premio> findByNome(String nome);
 
+    /**
+     * Resultado no cache de consultas (região "premio-consultas").
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = REGIAO_CONSULTAS)
+    })
     List<Premio> findByCronogramaId(Long cronogramaId);
 }
@@ -0,0 +1,29 @@
+package com.gestaoprojetos.repository;
+
+import java.time.LocalDate;
+
+/**
+ * Projeção da apuração: uma linha por projeto avaliado, lida do resumo de notas.
+ * A soma dos quadrados das notas permite calcular o desvio padrão sem
+ * depender de uma função STDDEV específica do banco.
+ */
+public interface ProjetoRankingView {
+
+    Long getProjetoId();
+
+    String getTitulo();
+
+    String getAreaTematica();
+
+    LocalDate getDataEnvio();
+
+    Long getQuantidadeAvaliacoes();
+
+    Double getMedia();
+
+    Double getNotaMinima();
+
+    Double getNotaMaxima();
+
+    Double getSomaQuadrados();
+}
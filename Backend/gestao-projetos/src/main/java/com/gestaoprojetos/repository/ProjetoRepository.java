@@ -1,11 +1,29 @@
 package com.gestaoprojetos.repository;
 
+import com.gestaoprojetos.model.Avaliacao;
 import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.model.ResumoNotas;
+import jakarta.persistence.QueryHint;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 
 /**
@@ -13,14 +31,220 @@ import java.util.List;
  * Ela estende JpaRepository para fornecer operações CRUD básicas e consultas personalizadas.
  */
 @Repository
-public interface ProjetoRepository extends JpaRepository<Projeto, Long> {
+public interface ProjetoRepository extends JpaRepository<Projeto, Long>, JpaSpecificationExecutor<Projeto> {
 
-    @Query("SELECT p FROM _projeto p JOIN FETCH p.avaliacoes a WHERE a IS NOT NULL")
-    List<Projeto> findProjetosComAvaliacao();
+    /**
+     * Filtro "possui ao menos uma avaliação", resolvido no banco com EXISTS
+     * sobre o índice _avaliacao(projeto_id).
+     */
+    static Specification<Projeto> comAvaliacao() {
+        return (root, query, cb) -> {
+            Subquery<Long> avaliacao = query.subquery(Long.class);
+            Root<Avaliacao> a = avaliacao.from(Avaliacao.class);
+            avaliacao.select(cb.literal(1L)).where(cb.equal(a.get("projeto"), root));
+            return cb.exists(avaliacao);
+        };
+    }
 
-    @Query("SELECT p FROM _projeto p LEFT JOIN FETCH p.autores WHERE p.avaliacoes IS EMPTY")
-    List<Projeto> findProjetosSemAvaliacao();
+    /**
+     * Filtro "ainda não avaliado" (NOT EXISTS).
+     */
+    static Specification<Projeto> semAvaliacao() {
+        return Specification.not(comAvaliacao());
+    }
 
-    @Query("SELECT p FROM _projeto p JOIN p.avaliacoes a ORDER BY a.nota DESC")
-    List<Projeto> findProjetosVencedoresOrderByNotaDesc();
+    /**
+     * Apuração: lê do resumo de notas de cada projeto avaliado (sem agregar as avaliações),
+     * na ordem do índice idx_projeto_ranking.
+     * Desempate determinístico: média, quantidade de avaliações e maior nota (decrescentes),
+     * depois data de envio mais antiga e, por fim, o ID.
+     * O {@link Limit} vira LIMIT no SQL, então só as K primeiras linhas saem do banco.
+     */
+    @Query("SELECT p.id AS projetoId, p.titulo AS titulo, p.areaTematica AS areaTematica, "
+            + "p.dataEnvio AS dataEnvio, p.resumoNotas.quantidadeAvaliacoes AS quantidadeAvaliacoes, "
+            + "p.resumoNotas.mediaNotas AS media, p.resumoNotas.notaMinima AS notaMinima, "
+            + "p.resumoNotas.notaMaxima AS notaMaxima, p.resumoNotas.somaQuadrados AS somaQuadrados "
+            + "FROM _projeto p WHERE p.resumoNotas.quantidadeAvaliacoes > 0 "
+            + "ORDER BY p.resumoNotas.mediaNotas DESC, p.resumoNotas.quantidadeAvaliacoes DESC, "
+            + "p.resumoNotas.notaMaxima DESC, p.dataEnvio ASC, p.id ASC")
+    List<ProjetoRankingView> findRanking(Limit limite);
+
+    /**
+     * Projetos avaliados na ordem do ranking, lidos direto do resumo desnormalizado
+     * (mesmo desempate de {@link #findRanking(Limit)}), sem agregar as avaliações.
+     */
+    @Query("SELECT p FROM _projeto p WHERE p.resumoNotas.quantidadeAvaliacoes > 0 "
+            + "ORDER BY p.resumoNotas.mediaNotas DESC, p.resumoNotas.quantidadeAvaliacoes DESC, "
+            + "p.resumoNotas.notaMaxima DESC, p.dataEnvio ASC, p.id ASC")
+    List<Projeto> findVencedores(Limit limite);
+
+    @Query("SELECT p.resumoNotas FROM _projeto p WHERE p.id = :id")
+    ResumoNotas findResumoNotasById(@Param("id") Long id);
+
+    /**
+     * Soma uma nota ao resumo do projeto com um único UPDATE atômico.
+     * As expressões do SET leem os valores anteriores da linha.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE _projeto p SET "
+            + "p.resumoNotas.somaNotas = p.resumoNotas.somaNotas + :nota, "
+            + "p.resumoNotas.quantidadeAvaliacoes = p.resumoNotas.quantidadeAvaliacoes + 1, "
+            + "p.resumoNotas.mediaNotas = (p.resumoNotas.somaNotas + :nota) / (p.resumoNotas.quantidadeAvaliacoes + 1), "
+            + "p.resumoNotas.notaMaxima = CASE WHEN p.resumoNotas.notaMaxima IS NULL "
+            + "OR p.resumoNotas.notaMaxima < :nota THEN :nota ELSE p.resumoNotas.notaMaxima END, "
+            + "p.resumoNotas.notaMinima = CASE WHEN p.resumoNotas.notaMinima IS NULL "
+            + "OR p.resumoNotas.notaMinima > :nota THEN :nota ELSE p.resumoNotas.notaMinima END, "
+            + "p.resumoNotas.somaQuadrados = p.resumoNotas.somaQuadrados + :nota * :nota, "
+            + "p.resumoNotas.dataUltimaAvaliacao = CASE WHEN p.resumoNotas.dataUltimaAvaliacao IS NULL "
+            + "OR p.resumoNotas.dataUltimaAvaliacao < :data THEN :data ELSE p.resumoNotas.dataUltimaAvaliacao END "
+            + "WHERE p.id = :id")
+    int registrarNota(@Param("id") Long id, @Param("nota") double nota, @Param("data") LocalDate data);
+
+    /**
+     * Retira uma nota do resumo do projeto. Somas e quantidade são decrementadas;
+     * menor e maior nota e última data são relidas do índice _avaliacao(projeto_id),
+     * por isso a alteração da avaliação precisa estar no banco (flush) antes.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE _projeto p SET "
+            + "p.resumoNotas.somaNotas = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN 0 "
+            + "ELSE p.resumoNotas.somaNotas - :nota END, "
+            + "p.resumoNotas.quantidadeAvaliacoes = p.resumoNotas.quantidadeAvaliacoes - 1, "
+            + "p.resumoNotas.mediaNotas = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN NULL "
+            + "ELSE (p.resumoNotas.somaNotas - :nota) / (p.resumoNotas.quantidadeAvaliacoes - 1) END, "
+            + "p.resumoNotas.somaQuadrados = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN 0 "
+            + "ELSE p.resumoNotas.somaQuadrados - :nota * :nota END, "
+            + "p.resumoNotas.notaMaxima = (SELECT MAX(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.notaMinima = (SELECT MIN(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.dataUltimaAvaliacao = "
+            + "(SELECT MAX(a.dataAvaliacao) FROM _avaliacao a WHERE a.projeto.id = p.id) "
+            + "WHERE p.id = :id")
+    int removerNota(@Param("id") Long id, @Param("nota") double nota);
+
+    /**
+     * Retira do resumo do projeto a nota de uma avaliação que ainda está no banco e vai ser
+     * removida em seguida, sem carregá-la: projeto e nota são lidos da própria avaliação, e a
+     * menor e a maior nota e a última data, das demais avaliações do projeto.
+     *
+     * @return 1, ou 0 se a avaliação não existir.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE _projeto p SET "
+            + "p.resumoNotas.somaNotas = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN 0 "
+            + "ELSE p.resumoNotas.somaNotas - (SELECT a.nota FROM _avaliacao a WHERE a.id = :avaliacaoId) END, "
+            + "p.resumoNotas.quantidadeAvaliacoes = p.resumoNotas.quantidadeAvaliacoes - 1, "
+            + "p.resumoNotas.mediaNotas = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN NULL "
+            + "ELSE (p.resumoNotas.somaNotas - (SELECT a.nota FROM _avaliacao a WHERE a.id = :avaliacaoId)) "
+            + "/ (p.resumoNotas.quantidadeAvaliacoes - 1) END, "
+            + "p.resumoNotas.somaQuadrados = CASE WHEN p.resumoNotas.quantidadeAvaliacoes <= 1 THEN 0 "
+            + "ELSE p.resumoNotas.somaQuadrados - (SELECT a.nota * a.nota FROM _avaliacao a WHERE a.id = :avaliacaoId) END, "
+            + "p.resumoNotas.notaMaxima = "
+            + "(SELECT MAX(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id AND a.id <> :avaliacaoId), "
+            + "p.resumoNotas.notaMinima = "
+            + "(SELECT MIN(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id AND a.id <> :avaliacaoId), "
+            + "p.resumoNotas.dataUltimaAvaliacao = "
+            + "(SELECT MAX(a.dataAvaliacao) FROM _avaliacao a WHERE a.projeto.id = p.id AND a.id <> :avaliacaoId) "
+            + "WHERE p.id = (SELECT a.projeto.id FROM _avaliacao a WHERE a.id = :avaliacaoId)")
+    int removerNotaDaAvaliacao(@Param("avaliacaoId") Long avaliacaoId);
+
+    /**
+     * UPDATE que recalcula do zero o resumo de notas a partir das avaliações;
+     * cada consulta acrescenta o próprio WHERE.
+     */
+    String RECALCULAR_RESUMO = "UPDATE _projeto p SET "
+            + "p.resumoNotas.somaNotas = COALESCE((SELECT SUM(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), 0), "
+            + "p.resumoNotas.quantidadeAvaliacoes = (SELECT COUNT(a) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.mediaNotas = (SELECT AVG(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.notaMaxima = (SELECT MAX(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.notaMinima = (SELECT MIN(a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), "
+            + "p.resumoNotas.somaQuadrados = "
+            + "COALESCE((SELECT SUM(a.nota * a.nota) FROM _avaliacao a WHERE a.projeto.id = p.id), 0), "
+            + "p.resumoNotas.dataUltimaAvaliacao = "
+            + "(SELECT MAX(a.dataAvaliacao) FROM _avaliacao a WHERE a.projeto.id = p.id) ";
+
+    /**
+     * Recalcula do zero o resumo dos projetos com ID no intervalo (deId, ateId].
+     * Usado pela reconstrução em lotes para corrigir eventuais divergências.
+     */
+    @Modifying
+    @Query(RECALCULAR_RESUMO + "WHERE p.id > :deId AND p.id <= :ateId")
+    int recalcularResumos(@Param("deId") Long deId, @Param("ateId") Long ateId);
+
+    /**
+     * Recalcula, em um único UPDATE, o resumo dos projetos informados.
+     * Usado após inserções em massa de avaliações, que não passam pela entidade.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(RECALCULAR_RESUMO + "WHERE p.id IN :ids")
+    int recalcularResumos(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Desfaz a associação entre projeto e autor com um único DELETE na tabela intermediária,
+     * sem carregar a coleção de autores.
+     * As query spaces restringem a invalidação do cache de segundo nível a essa tabela
+     * (sem elas, um comando nativo invalida todas as regiões).
+     *
+     * @return 1, ou 0 se o autor não estava no projeto.
+     */
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "_projeto_autor"))
+    @Query(value = "DELETE FROM _projeto_autor WHERE projeto_id = :projetoId AND autor_id = :autorId",
+            nativeQuery = true)
+    int removerAutor(@Param("projetoId") Long projetoId, @Param("autorId") Long autorId);
+
+    /**
+     * Dos IDs informados, retorna os que existem (validação em conjunto, uma consulta).
+     */
+    @Query("SELECT p.id FROM _projeto p WHERE p.id IN :ids")
+    Set<Long> findIdsExistentes(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Quantidade de projetos sem avaliações, lida do resumo de notas (sem subconsulta em _avaliacao).
+     */
+    @Query("SELECT COUNT(p) FROM _projeto p WHERE p.resumoNotas.quantidadeAvaliacoes = 0")
+    long countSemAvaliacao();
+
+    /**
+     * Quantidade de projetos com pelo menos uma avaliação, lida do resumo de notas.
+     */
+    @Query("SELECT COUNT(p) FROM _projeto p WHERE p.resumoNotas.quantidadeAvaliacoes > 0")
+    long countComAvaliacao();
+
+    /**
+     * Autores dos projetos informados (id e nome), na ordem de Projeto.autores.
+     */
+    @Query("SELECT p.id AS projetoId, a.id AS id, a.nome AS nome FROM _projeto p JOIN p.autores a "
+            + "WHERE p.id IN :ids ORDER BY a.id")
+    List<AutorDoProjetoView> findAutoresDosProjetos(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Avaliações dos projetos informados (id, nota e parecer), em ordem de ID.
+     */
+    @Query("SELECT a.projeto.id AS projetoId, a.id AS id, a.nota AS nota, a.parecer AS parecer "
+            + "FROM _avaliacao a WHERE a.projeto.id IN :ids ORDER BY a.id")
+    List<AvaliacaoDoProjetoView> findAvaliacoesDosProjetos(@Param("ids") Collection<Long> ids);
+
+    /**
+     * IDs dos projetos após o informado, em ordem; delimita os lotes da reconstrução.
+     */
+    @Query("SELECT p.id FROM _projeto p WHERE p.id > :aposId ORDER BY p.id")
+    List<Long> findIdsApos(@Param("aposId") Long aposId, Limit limite);
+
+    /**
+     * Busca o projeto para a tela de detalhe, trazendo os autores na mesma consulta.
+     */
+    @EntityGraph(Projeto.GRAFO_DETALHE)
+    Optional<Projeto> findDetalheById(Long id);
+
+    /**
+     * Todos os projetos em ordem de ID, lidos sob demanda de um cursor do banco (forward-only),
+     * para a exportação. Precisa de uma transação aberta e deve ser fechado ao final.
+     * As entidades são somente leitura (sem cópia para dirty checking).
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + CursorPage.TAMANHO_MAXIMO),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM _projeto p ORDER BY p.id")
+    Stream<Projeto> streamParaExportacao();
 }
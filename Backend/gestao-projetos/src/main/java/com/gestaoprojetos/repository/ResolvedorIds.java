@@ -0,0 +1,69 @@
+package com.gestaoprojetos.repository;
+
+import com.gestaoprojetos.exception.BadRequestException;
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolve listas de IDs recebidas pela API em entidades com uma única consulta (IN),
+ * em vez de um findById por ID. Um ID inexistente rejeita o pedido inteiro.
+ * <p>
+ * Os caminhos em lote que rejeitam item a item (criação de avaliações em lote, importação CSV
+ * de projetos) não carregam as entidades: conferem os IDs com findIdsExistentes, também uma
+ * consulta IN, e associam por referência.
+ */
+public final class ResolvedorIds {
+
+    private ResolvedorIds() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Busca todas as entidades dos IDs informados em uma única consulta.
+     * IDs repetidos são considerados uma vez; a ordem do pedido é mantida.
+     *
+     * @param repository repositório da entidade
+     * @param ids        IDs recebidos (null ou vazio retorna lista vazia)
+     * @param idDe       função que extrai o ID da entidade carregada
+     * @param entidade   nome da entidade usado na mensagem de erro (ex.: "Autor")
+     * @return entidades na ordem dos IDs informados
+     * @throws BadRequestException       se algum ID for nulo
+     * @throws ResourceNotFoundException listando todos os IDs que não existem
+     */
+    public static <E, ID> List<E> resolver(JpaRepository<E, ID> repository, Collection<ID> ids,
+                                           Function<E, ID> idDe, String entidade) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        if (ids.stream().anyMatch(Objects::isNull)) {
+            throw new BadRequestException("A lista de IDs de " + entidade + " não pode conter valores nulos.");
+        }
+
+        Set<ID> unicos = new LinkedHashSet<>(ids);
+        Map<ID, E> encontrados = repository.findAllById(unicos).stream()
+                .collect(Collectors.toMap(idDe, Function.identity()));
+
+        List<ID> ausentes = unicos.stream()
+                .filter(id -> !encontrados.containsKey(id))
+                .toList();
+        if (!ausentes.isEmpty()) {
+            throw new ResourceNotFoundException(entidade + " não encontrado com ID(s): " + ausentes);
+        }
+
+        List<E> resultado = new ArrayList<>(unicos.size());
+        for (ID id : unicos) {
+            resultado.add(encontrados.get(id));
+        }
+        return resultado;
+    }
+}
@@ -2,8 +2,9 @@ package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Status;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 @Repository
-public interface StatusRepository extends JpaRepository<Status, Long> {
+public interface StatusRepository extends JpaRepository<Status, Long>, JpaSpecificationExecutor<Status> {
 }
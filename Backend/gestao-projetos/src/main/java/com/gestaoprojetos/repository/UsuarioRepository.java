@@ -2,6 +2,10 @@ package com.gestaoprojetos.repository;
 
 import com.gestaoprojetos.model.Usuario;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Optional;
 
@@ -9,13 +13,42 @@ import java.util.Optional;
  * Repositório para Usuario.
  * Além dos métodos CRUD padrão, definimos findByUsername para autenticar.
  */
-public interface UsuarioRepository extends JpaRepository<Usuario, Long> {
+public interface UsuarioRepository extends JpaRepository<Usuario, Long>, JpaSpecificationExecutor<Usuario> {
     /**
      * Busca um usuário pelo username (único).
      * O retorno Optional facilita tratar “não encontrado” em camadas superiores.
      */
     Optional<Usuario> findByUsername(String username);
 
-    Optional<Usuario> findByUsernameAndPessoaId(String trim, Long id);
-}
+    /**
+     * Compara direto a chave estrangeira pessoa_id; a consulta derivada fazia LEFT JOIN
+     * com o UNION de todas as tabelas de Pessoa (TABLE_PER_CLASS).
+     */
+    @Query("SELECT u FROM _usuario u WHERE u.username = :username AND u.pessoa.id = :pessoaId")
+    Optional<Usuario> findByUsernameAndPessoaId(@Param("username") String username,
+                                                @Param("pessoaId") Long pessoaId);
+
+    /**
+     * Versão atual dos tokens do usuário (só a coluna, pela chave primária).
+     */
+    @Query("SELECT u.tokenVersao FROM _usuario u WHERE u.id = :id")
+    Optional<Long> findTokenVersaoById(@Param("id") Long id);
 
+    /**
+     * Incrementa a versão dos tokens do usuário, invalidando os já emitidos.
+     *
+     * @return quantidade de linhas alteradas (0 se o usuário não existir).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE _usuario u SET u.tokenVersao = u.tokenVersao + 1 WHERE u.id = :id")
+    int incrementarTokenVersao(@Param("id") Long id);
+
+    /**
+     * Troca só o hash da senha (rehash no login), sem carregar a entidade nem alterar a versão dos tokens.
+     *
+     * @return quantidade de linhas alteradas (0 se o usuário não existir).
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE _usuario u SET u.password = :hash WHERE u.id = :id")
+    int atualizarHashSenha(@Param("id") Long id, @Param("hash") String hash);
+}
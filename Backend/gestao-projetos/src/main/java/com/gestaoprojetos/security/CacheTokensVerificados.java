@@ -0,0 +1,127 @@
+package com.gestaoprojetos.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache de tokens já verificados.
+ * <p>
+ * O front-end reenvia o mesmo token em todas as requisições; depois da primeira
+ * verificação (HMAC + leitura das claims), o principal fica guardado até o token expirar.
+ * A chave é o SHA-256 do token, então o token em si não fica em memória.
+ * <p>
+ * Métricas: jwt.cache.requests (tag result=hit|miss) e jwt.cache.size.
+ */
+@Component
+public class CacheTokensVerificados {
+
+    /**
+     * Quantidade máxima de tokens mantidos em memória.
+     */
+    public static final int CAPACIDADE = 10_000;
+
+    private final JwtUtil jwtUtil;
+    private final Map<String, Entrada> entradas = new ConcurrentHashMap<>();
+    private final Counter acertos;
+    private final Counter falhas;
+
+    public CacheTokensVerificados(JwtUtil jwtUtil, MeterRegistry registry) {
+        this.jwtUtil = jwtUtil;
+        this.acertos = Counter.builder("jwt.cache.requests")
+                .description("Consultas ao cache de tokens verificados")
+                .tag("result", "hit")
+                .register(registry);
+        this.falhas = Counter.builder("jwt.cache.requests")
+                .description("Consultas ao cache de tokens verificados")
+                .tag("result", "miss")
+                .register(registry);
+        Gauge.builder("jwt.cache.size", entradas, Map::size)
+                .description("Tokens verificados em cache")
+                .register(registry);
+    }
+
+    /**
+     * Devolve o principal do token, verificando a assinatura só na primeira vez.
+     *
+     * @param token JWT compacto (sem o prefixo "Bearer ").
+     * @return principal montado com as claims do token.
+     * @throws JwtException             se o token for inválido ou estiver expirado.
+     * @throws IllegalArgumentException se o token for nulo ou vazio.
+     */
+    public UsuarioAutenticado verificar(String token) {
+        String chave = digest(token);
+        long agora = System.currentTimeMillis();
+
+        Entrada entrada = entradas.get(chave);
+        if (entrada != null) {
+            if (entrada.expiraEm() > agora) {
+                acertos.increment();
+                return entrada.usuario();
+            }
+            entradas.remove(chave, entrada);
+        }
+
+        falhas.increment();
+        Claims claims = jwtUtil.verificarToken(token);
+        UsuarioAutenticado usuario = jwtUtil.toUsuarioAutenticado(claims);
+        guardar(chave, new Entrada(usuario, claims.getExpiration().getTime()));
+        return usuario;
+    }
+
+    /**
+     * Guarda a entrada; se o cache estiver cheio, remove antes os tokens expirados.
+     * Se ainda assim não houver espaço, o token simplesmente não é guardado.
+     */
+    private void guardar(String chave, Entrada entrada) {
+        if (entradas.size() >= CAPACIDADE) {
+            removerExpirados();
+            if (entradas.size() >= CAPACIDADE) {
+                return;
+            }
+        }
+        entradas.put(chave, entrada);
+    }
+
+    /**
+     * Remove os tokens já expirados (também roda a cada minuto).
+     */
+    @Scheduled(fixedDelay = 60_000)
+    public void removerExpirados() {
+        long agora = System.currentTimeMillis();
+        entradas.values().removeIf(entrada -> entrada.expiraEm() <= agora);
+    }
+
+    /**
+     * Remove todas as entradas.
+     */
+    public void esvaziar() {
+        entradas.clear();
+    }
+
+    private static String digest(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("Token ausente.");
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 indisponível", e);
+        }
+    }
+
+    private record Entrada(UsuarioAutenticado usuario, long expiraEm) {
+    }
+}
@@ -0,0 +1,71 @@
+package com.gestaoprojetos.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+/**
+ * Escolhe o custo (work factor) do BCrypt medindo o hardware em que a aplicação está rodando.
+ * <p>
+ * Cada custo a mais dobra o tempo do hash. A calibração mede custos crescentes a partir do mínimo
+ * e fica com o maior cujo tempo não passa do alvo; assim a latência do login se mantém dentro do
+ * orçamento quando a aplicação muda de máquina. O custo escolhido vai gravado em cada hash
+ * ({@code $2a$<custo>$...}), e hashes com custo menor são refeitos no próximo login.
+ */
+@Slf4j
+public final class CalibracaoBCrypt {
+
+    /**
+     * Menor custo aceito, independente do hardware (mesmo padrão usado até agora).
+     */
+    public static final int CUSTO_MINIMO = 10;
+
+    /**
+     * Maior custo considerado na calibração.
+     */
+    public static final int CUSTO_MAXIMO = 16;
+
+    private static final String SENHA_CALIBRACAO = "calibracao-bcrypt";
+    private static final int MEDICOES = 2;
+
+    private CalibracaoBCrypt() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Mede o hardware e devolve o maior custo cuja verificação cabe no tempo alvo.
+     *
+     * @param tempoAlvoMs tempo desejado para um hash/verificação, em milissegundos.
+     * @return custo entre {@link #CUSTO_MINIMO} e {@link #CUSTO_MAXIMO}.
+     */
+    public static int escolherCusto(long tempoAlvoMs) {
+        int escolhido = CUSTO_MINIMO;
+        for (int custo = CUSTO_MINIMO; custo <= CUSTO_MAXIMO; custo++) {
+            long tempoMs = medir(custo);
+            log.info("Calibração BCrypt: custo {} = {} ms", custo, tempoMs);
+            if (tempoMs > tempoAlvoMs) {
+                break;
+            }
+            escolhido = custo;
+            // o próximo custo leva o dobro: se certamente estoura o alvo, nem mede
+            if (tempoMs * 2 > tempoAlvoMs * 3 / 2) {
+                break;
+            }
+        }
+        log.info("Custo do BCrypt escolhido: {} (alvo {} ms)", escolhido, tempoAlvoMs);
+        return escolhido;
+    }
+
+    /**
+     * Menor tempo de hash observado para o custo informado.
+     */
+    private static long medir(int custo) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(custo);
+        long melhor = Long.MAX_VALUE;
+        for (int i = 0; i < MEDICOES; i++) {
+            long inicio = System.nanoTime();
+            encoder.encode(SENHA_CALIBRACAO);
+            melhor = Math.min(melhor, (System.nanoTime() - inicio) / 1_000_000);
+        }
+        return melhor;
+    }
+}
@@ -0,0 +1,187 @@
+package com.gestaoprojetos.security;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.SecretKey;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyStore;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * Chaves HMAC usadas para assinar e verificar os JWTs, identificadas por "kid".
+ * <p>
+ * Todas as instâncias da aplicação precisam das mesmas chaves para aceitar tokens
+ * emitidos umas pelas outras. As chaves são lidas de uma destas fontes:
+ * <ul>
+ *     <li>{@code jwt.chaves.arquivo}: arquivo no formato {@code kid=segredoEmBase64}, uma chave por linha;</li>
+ *     <li>{@code jwt.chaves.keystore}: keystore (PKCS12 ou JCEKS) com entradas de chave secreta,
+ *     usando o alias como kid ({@code jwt.chaves.keystore-senha}, {@code jwt.chaves.keystore-tipo}).</li>
+ * </ul>
+ * {@code jwt.chaves.ativa} indica o kid usado para assinar; todas as chaves carregadas são aceitas
+ * na verificação. Rotação sem indisponibilidade: publicar a nova chave em todas as instâncias,
+ * depois trocar {@code jwt.chaves.ativa} e, quando os tokens antigos expirarem, remover a chave velha.
+ * <p>
+ * Sem nenhuma fonte configurada, gera uma chave aleatória (só serve para uma instância isolada).
+ * O bean é criado em AppConfig.
+ */
+@Slf4j
+public class ChavesJwt {
+
+    /**
+     * Kid da chave gerada quando nenhuma fonte está configurada.
+     */
+    public static final String KID_LOCAL = "local";
+
+    private final Map<String, SecretKey> chaves;
+    private final String kidAtivo;
+
+    public ChavesJwt(Map<String, SecretKey> chaves, String kidAtivo) {
+        if (chaves == null || chaves.isEmpty()) {
+            throw new IllegalStateException("Nenhuma chave JWT carregada.");
+        }
+        if (!chaves.containsKey(kidAtivo)) {
+            throw new IllegalStateException("A chave JWT ativa '" + kidAtivo + "' não foi carregada. "
+                    + "Chaves disponíveis: " + chaves.keySet());
+        }
+        this.chaves = Collections.unmodifiableMap(new LinkedHashMap<>(chaves));
+        this.kidAtivo = kidAtivo;
+    }
+
+    /**
+     * Carrega as chaves da fonte configurada (arquivo ou keystore).
+     *
+     * @param arquivo       caminho do arquivo {@code kid=segredoEmBase64} (vazio se não usado).
+     * @param keystore      caminho do keystore (vazio se não usado).
+     * @param senhaKeystore senha do keystore e das entradas.
+     * @param tipoKeystore  tipo do keystore (PKCS12, JCEKS).
+     * @param ativa         kid usado para assinar (pode ficar vazio se houver uma única chave).
+     * @throws IllegalStateException se a configuração for inválida ou as chaves não puderem ser lidas.
+     */
+    public static ChavesJwt carregar(String arquivo, String keystore, String senhaKeystore,
+                                     String tipoKeystore, String ativa) {
+        if (StringUtils.hasText(arquivo) && StringUtils.hasText(keystore)) {
+            throw new IllegalStateException("Configure apenas uma fonte de chaves JWT: jwt.chaves.arquivo ou jwt.chaves.keystore.");
+        }
+        Map<String, SecretKey> chaves;
+        if (StringUtils.hasText(arquivo)) {
+            chaves = lerArquivo(Path.of(arquivo));
+        } else if (StringUtils.hasText(keystore)) {
+            chaves = lerKeystore(Path.of(keystore), senhaKeystore, tipoKeystore);
+        } else {
+            log.warn("Nenhuma chave JWT configurada (jwt.chaves.arquivo / jwt.chaves.keystore): "
+                    + "usando chave aleatória; tokens não serão aceitos por outras instâncias.");
+            return aleatoria();
+        }
+        return new ChavesJwt(chaves, escolherAtiva(chaves, ativa));
+    }
+
+    /**
+     * Conjunto com uma única chave aleatória (kid {@value #KID_LOCAL}).
+     */
+    public static ChavesJwt aleatoria() {
+        return new ChavesJwt(Map.of(KID_LOCAL, Keys.secretKeyFor(SignatureAlgorithm.HS256)), KID_LOCAL);
+    }
+
+    /**
+     * Kid usado para assinar novos tokens.
+     */
+    public String getKidAtivo() {
+        return kidAtivo;
+    }
+
+    /**
+     * Chave usada para assinar novos tokens.
+     */
+    public SecretKey getChaveAtiva() {
+        return chaves.get(kidAtivo);
+    }
+
+    /**
+     * Kids aceitos na verificação.
+     */
+    public Set<String> getKids() {
+        return chaves.keySet();
+    }
+
+    /**
+     * Chave de verificação para o kid do cabeçalho do token.
+     *
+     * @throws JwtException se o token não tiver kid ou se o kid não for conhecido.
+     */
+    public Key chave(String kid) {
+        if (kid == null) {
+            throw new JwtException("Token sem identificador de chave (kid).");
+        }
+        SecretKey chave = chaves.get(kid);
+        if (chave == null) {
+            throw new JwtException("Chave de assinatura desconhecida: " + kid);
+        }
+        return chave;
+    }
+
+    private static String escolherAtiva(Map<String, SecretKey> chaves, String ativa) {
+        if (StringUtils.hasText(ativa)) {
+            return ativa;
+        }
+        if (chaves.size() == 1) {
+            return chaves.keySet().iterator().next();
+        }
+        throw new IllegalStateException("Há mais de uma chave JWT carregada; informe jwt.chaves.ativa. "
+                + "Chaves disponíveis: " + chaves.keySet());
+    }
+
+    private static Map<String, SecretKey> lerArquivo(Path arquivo) {
+        Properties propriedades = new Properties();
+        try (Reader leitor = Files.newBufferedReader(arquivo, StandardCharsets.UTF_8)) {
+            propriedades.load(leitor);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível ler o arquivo de chaves JWT: " + arquivo, e);
+        }
+
+        Map<String, SecretKey> chaves = new LinkedHashMap<>();
+        for (String kid : propriedades.stringPropertyNames()) {
+            byte[] segredo = Decoders.BASE64.decode(propriedades.getProperty(kid).trim());
+            chaves.put(kid, Keys.hmacShaKeyFor(segredo));
+        }
+        log.info("Chaves JWT carregadas de {}: {}", arquivo, chaves.keySet());
+        return chaves;
+    }
+
+    private static Map<String, SecretKey> lerKeystore(Path arquivo, String senha, String tipo) {
+        char[] senhaKeystore = senha.toCharArray();
+        Map<String, SecretKey> chaves = new LinkedHashMap<>();
+        try (InputStream entrada = Files.newInputStream(arquivo)) {
+            KeyStore keyStore = KeyStore.getInstance(tipo);
+            keyStore.load(entrada, senhaKeystore);
+            Enumeration<String> aliases = keyStore.aliases();
+            while (aliases.hasMoreElements()) {
+                String alias = aliases.nextElement();
+                Key chave = keyStore.getKey(alias, senhaKeystore);
+                if (chave instanceof SecretKey) {
+                    chaves.put(alias, Keys.hmacShaKeyFor(chave.getEncoded()));
+                }
+            }
+        } catch (IOException | GeneralSecurityException e) {
+            throw new IllegalStateException("Não foi possível ler o keystore de chaves JWT: " + arquivo, e);
+        }
+        log.info("Chaves JWT carregadas do keystore {}: {}", arquivo, chaves.keySet());
+        return chaves;
+    }
+}
@@ -1,21 +1,26 @@
 package com.gestaoprojetos.security;
 
 
+import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Usuario;
 import com.gestaoprojetos.service.UsuarioServiceIMP;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 /**
  * Adapter para o Spring Security buscar UserDetails a partir de nossa base de Usuario.
+ * <p>
+ * Também grava o rehash da senha: após um login bem-sucedido, se o hash estiver em formato
+ * antigo ou com custo abaixo do atual ({@code PasswordEncoder.upgradeEncoding}), o
+ * DaoAuthenticationProvider gera um novo hash e chama {@link #updatePassword}.
  */
 @Slf4j
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UsuarioServiceIMP usuarioService;
 
@@ -37,13 +42,24 @@ public class CustomUserDetailsService implements UserDetailsService {
 //    }
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
-        Usuario usuario = usuarioService.buscarPorUsername(new Usuario(username, null, null));
-
-        // Aqui, usuario.getPassword() deve retornar o hash (ex: $2a$10$...)
-        return User
-                .withUsername(usuario.getUsername())
-                .password(usuario.getPassword())
-                .authorities("USER")
-                .build();
+        Usuario usuario;
+        try {
+            usuario = usuarioService.buscarPorUsername(new Usuario(username, null, null));
+        } catch (ResourceNotFoundException ex) {
+            // Contrato do UserDetailsService: o provider converte em 401 (e conta como falha no limitador)
+            throw new UsernameNotFoundException(ex.getMessage());
+        }
+
+        // Aqui, usuario.getPassword() deve retornar o hash (ex: {bcrypt}$2a$12$... ou o legado $2a$10$...);
+        // id, pessoa e versão seguem no principal para serem gravados no token
+        return UsuarioAutenticado.de(usuario);
+    }
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        UsuarioAutenticado usuario = (UsuarioAutenticado) user;
+        usuarioService.atualizarHashSenha(usuario.getId(), newPassword);
+        log.info("Hash da senha do usuário {} atualizado", usuario.getUsername());
+        return usuario.comSenha(newPassword);
     }
 }
@@ -1,13 +1,12 @@
 package com.gestaoprojetos.security;
 
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -18,16 +17,19 @@ import java.io.IOException;
 /**
  * Filtro que intercepta cada requisição, extrai o JWT do cabeçalho e,
  * se válido, seta a autenticação no contexto do Spring Security.
+ * O principal é montado só com as claims do token; o único dado consultado
+ * é a versão dos tokens do usuário, que fica em cache ({@link VersoesToken}).
+ * Tokens repetidos não são verificados de novo ({@link CacheTokensVerificados}).
  */
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-    private final UserDetailsService userDetailsService;
+    private final CacheTokensVerificados tokensVerificados;
+    private final VersoesToken versoesToken;
 
-    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsService userDetailsService) {
-        this.jwtUtil = jwtUtil;
-        this.userDetailsService = userDetailsService;
+    public JwtAuthenticationFilter(CacheTokensVerificados tokensVerificados, VersoesToken versoesToken) {
+        this.tokensVerificados = tokensVerificados;
+        this.versoesToken = versoesToken;
     }
 
     @Override
@@ -38,14 +40,12 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     ) throws ServletException, IOException {
 
         String token = getJwtFromRequest(request);
+        UsuarioAutenticado usuario = StringUtils.hasText(token) ? verificar(token) : null;
 
-        if (StringUtils.hasText(token) && jwtUtil.validateToken(token, jwtUtil.getUsernameFromToken(token))) {
-            String username = jwtUtil.getUsernameFromToken(token);
-            UserDetails userDetails = userDetailsService.loadUserByUsername(username);
-
+        if (usuario != null && versoesToken.aceita(usuario.getId(), usuario.getTokenVersao())) {
             UsernamePasswordAuthenticationToken authentication =
                     new UsernamePasswordAuthenticationToken(
-                            userDetails, null, userDetails.getAuthorities()
+                            usuario, null, usuario.getAuthorities()
                     );
             authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
@@ -56,6 +56,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Verifica o token (assinatura + expiração) e monta o principal com as claims;
+     * se o mesmo token já foi verificado, usa o principal do cache.
+     * Token inválido não interrompe a requisição: ela apenas segue sem autenticação.
+     */
+    private UsuarioAutenticado verificar(String token) {
+        try {
+            return tokensVerificados.verificar(token);
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
     /**
      * Lê o cabeçalho Authorization e extrai o token (espera “Bearer <token>”).
      */
@@ -1,14 +1,18 @@
 package com.gestaoprojetos.security;
 
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.SignatureAlgorithm;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
 import org.springframework.stereotype.Component;
 
 import java.security.Key;
+import java.util.Collection;
 import java.util.Date;
-import java.util.function.Function;
+import java.util.List;
 
 /**
  * Classe utilitária para criar e validar JWTs.
@@ -17,10 +21,28 @@ import java.util.function.Function;
 public class JwtUtil {
 
     /**
-     * Chave secreta usada para assinar o token.
-     * Em produção, use valor armazenado em variável de ambiente ou vault.
+     * Chaves de assinatura, identificadas pelo "kid" do cabeçalho do token.
+     * São as mesmas em todas as instâncias da aplicação (ver {@link ChavesJwt}).
      */
-    private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+    private final ChavesJwt chaves;
+
+    /**
+     * Parser montado uma única vez: é imutável e thread-safe, então é compartilhado por todas as requisições.
+     * A chave de verificação é escolhida pelo kid do token.
+     */
+    private final JwtParser parser;
+
+    public JwtUtil(ChavesJwt chaves) {
+        this.chaves = chaves;
+        this.parser = Jwts.parserBuilder()
+                .setSigningKeyResolver(new SigningKeyResolverAdapter() {
+                    @Override
+                    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                        return chaves.chave(header.getKeyId());
+                    }
+                })
+                .build();
+    }
 
     /**
      * Expiração do token: 2 horas (em milissegundos)
@@ -28,52 +50,100 @@ public class JwtUtil {
     private final long jwtExpirationMs = 1000 * 60 * 60 * 2;
 
     /**
-     * Gera um token JWT baseado no username.
+     * Claims próprias da aplicação (além de sub, iat e exp).
      */
-    public String generateToken(String username) {
+    public static final String CLAIM_USUARIO_ID = "uid";
+    public static final String CLAIM_PESSOA_ID = "pid";
+    public static final String CLAIM_AUTHORITIES = "roles";
+    public static final String CLAIM_VERSAO = "ver";
+
+    /**
+     * Gera um token JWT com os dados do usuário necessários para autenticar
+     * as próximas requisições sem consultar o banco.
+     */
+    public String generateToken(UsuarioAutenticado usuario) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + jwtExpirationMs);
 
         return Jwts.builder()
-                .setSubject(username)
+                .setHeaderParam(JwsHeader.KEY_ID, chaves.getKidAtivo())
+                .setSubject(usuario.getUsername())
+                .claim(CLAIM_USUARIO_ID, usuario.getId())
+                .claim(CLAIM_PESSOA_ID, usuario.getPessoaId())
+                .claim(CLAIM_AUTHORITIES, usuario.getNomesAuthorities())
+                .claim(CLAIM_VERSAO, usuario.getTokenVersao())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(key)
+                .signWith(chaves.getChaveAtiva())
                 .compact();
     }
 
+    /**
+     * Monta o principal a partir de claims já verificadas (sem senha).
+     *
+     * @param claims resultado de {@link #verificarToken(String)}.
+     * @return principal do usuário dono do token.
+     * @throws JwtException se o token não tiver as claims da aplicação (ex.: emitido por versão anterior).
+     */
+    public UsuarioAutenticado toUsuarioAutenticado(Claims claims) {
+        Number usuarioId = claims.get(CLAIM_USUARIO_ID, Number.class);
+        Number versao = claims.get(CLAIM_VERSAO, Number.class);
+        if (usuarioId == null || versao == null || claims.getSubject() == null) {
+            throw new JwtException("Token sem as claims obrigatórias do usuário.");
+        }
+        Number pessoaId = claims.get(CLAIM_PESSOA_ID, Number.class);
+        Collection<?> authorities = claims.get(CLAIM_AUTHORITIES, Collection.class);
+
+        return new UsuarioAutenticado(
+                usuarioId.longValue(),
+                claims.getSubject(),
+                null,
+                pessoaId != null ? pessoaId.longValue() : null,
+                versao.longValue(),
+                authorities != null ? authorities.stream().map(String::valueOf).toList() : List.of()
+        );
+    }
+
+    /**
+     * Verifica a assinatura e a validade do token e devolve todas as claims de uma vez.
+     * É a única operação que faz a verificação HMAC; os demais métodos delegam para ela.
+     *
+     * @param token JWT compacto (sem o prefixo "Bearer ").
+     * @return claims do token já verificadas.
+     * @throws JwtException             se a assinatura for inválida, o token estiver malformado ou expirado.
+     * @throws IllegalArgumentException se o token for nulo ou vazio.
+     */
+    public Claims verificarToken(String token) {
+        return parser.parseClaimsJws(token).getBody();
+    }
+
     /**
      * Extrai o username (sub) do token.
      */
     public String getUsernameFromToken(String token) {
-        return getClaimFromToken(token, Claims::getSubject);
+        return verificarToken(token).getSubject();
     }
 
     /**
      * Checa se o token expirou.
      */
     public boolean isTokenExpired(String token) {
-        final Date expiration = getClaimFromToken(token, Claims::getExpiration);
-        return expiration.before(new Date());
+        try {
+            return verificarToken(token).getExpiration().before(new Date());
+        } catch (ExpiredJwtException e) {
+            return true;
+        }
     }
 
     /**
-     * Valida o token (assinatura e validade).
+     * Valida o token (assinatura e validade) com uma única verificação.
      */
     public boolean validateToken(String token, String username) {
-        final String tokenUsername = getUsernameFromToken(token);
-        return (tokenUsername.equals(username) && !isTokenExpired(token));
-    }
-
-    /**
-     * Recupera qualquer claim usando o Claims resolver.
-     */
-    private <T> T getClaimFromToken(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claimsResolver.apply(claims);
+        try {
+            Claims claims = verificarToken(token);
+            return claims.getSubject().equals(username) && !claims.getExpiration().before(new Date());
+        } catch (JwtException | IllegalArgumentException e) {
+            return false;
+        }
     }
-}
\ No newline at end of file
+}
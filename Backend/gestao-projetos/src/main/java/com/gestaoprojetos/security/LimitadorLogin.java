@@ -0,0 +1,259 @@
+package com.gestaoprojetos.security;
+
+import com.gestaoprojetos.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Limita as tentativas de login por username e por IP (janela deslizante).
+ * <p>
+ * É consultado antes do AuthenticationManager: quem passou do limite recebe 429 sem que o
+ * BCrypt seja executado. A tentativa é contada já na consulta (de forma atômica), para que uma
+ * rajada não passe inteira enquanto as primeiras verificações de senha ainda estão rodando;
+ * um login bem-sucedido zera o contador do username e devolve a tentativa ao IP.
+ * Acima do limite, cada nova tentativa dobra a espera ({@code atrasoBaseMs}, 2x, 4x... até
+ * {@code atrasoMaximoMs}); tentativas recusadas não contam.
+ * <p>
+ * Os contadores ficam em tabelas de tamanho fixo (memória limitada, independente do número
+ * de usernames/IPs vistos) atualizadas só com compare-and-set, sem locks. Cada chave tem
+ * duas posições possíveis; se as duas estiverem ocupadas por outras chaves, a de menor
+ * contagem é substituída, mas nunca uma que esteja bloqueada.
+ * <p>
+ * Métrica: login.bloqueados (tag motivo=usuario|ip). O bean é criado em AppConfig.
+ */
+public class LimitadorLogin {
+
+    private final Contadores porUsuario;
+    private final Contadores porIp;
+    private final Counter bloqueadosUsuario;
+    private final Counter bloqueadosIp;
+
+    /**
+     * @param limiteUsuario  tentativas por username aceitas na janela antes de começar a bloquear.
+     * @param limiteIp       tentativas por IP aceitas na janela antes de começar a bloquear.
+     * @param janelaMs       tamanho da janela deslizante.
+     * @param atrasoBaseMs   espera após a primeira tentativa acima do limite.
+     * @param atrasoMaximoMs espera máxima.
+     * @param capacidade     posições de cada tabela (arredondado para potência de 2).
+     */
+    public LimitadorLogin(int limiteUsuario, int limiteIp, long janelaMs, long atrasoBaseMs,
+                          long atrasoMaximoMs, int capacidade, MeterRegistry registry) {
+        this.porUsuario = new Contadores(capacidade, limiteUsuario, janelaMs, atrasoBaseMs, atrasoMaximoMs);
+        this.porIp = new Contadores(capacidade, limiteIp, janelaMs, atrasoBaseMs, atrasoMaximoMs);
+        this.bloqueadosUsuario = contador(registry, "usuario");
+        this.bloqueadosIp = contador(registry, "ip");
+    }
+
+    /**
+     * Registra uma tentativa de login, se o username e o IP ainda puderem tentar.
+     *
+     * @throws TooManyRequestsException com o tempo de espera restante, se algum deles estiver bloqueado.
+     */
+    public void tentar(String username, String ip) {
+        long agora = System.currentTimeMillis();
+        long esperaIp = porIp.tentar(ip, agora);
+        if (esperaIp > 0) {
+            bloqueadosIp.increment();
+            throw bloqueado(esperaIp);
+        }
+        long esperaUsuario = porUsuario.tentar(normalizar(username), agora);
+        if (esperaUsuario > 0) {
+            porIp.desfazer(ip, agora);
+            bloqueadosUsuario.increment();
+            throw bloqueado(esperaUsuario);
+        }
+    }
+
+    /**
+     * Login bem-sucedido: zera as tentativas do username e desconta esta do IP.
+     */
+    public void registrarSucesso(String username, String ip) {
+        porUsuario.limpar(normalizar(username));
+        porIp.desfazer(ip, System.currentTimeMillis());
+    }
+
+    private static TooManyRequestsException bloqueado(long esperaMs) {
+        long segundos = Math.max(1, (esperaMs + 999) / 1000);
+        return new TooManyRequestsException(
+                "Muitas tentativas de login; tente novamente em " + segundos + " s.", segundos);
+    }
+
+    private static String normalizar(String username) {
+        return username == null ? "" : username.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static Counter contador(MeterRegistry registry, String motivo) {
+        return Counter.builder("login.bloqueados")
+                .description("Tentativas de login recusadas pelo limitador antes da verificação da senha")
+                .tag("motivo", motivo)
+                .register(registry);
+    }
+
+    /**
+     * Tabela de contadores de uma dimensão (username ou IP).
+     */
+    private static final class Contadores {
+
+        private final AtomicReferenceArray<Janela> posicoes;
+        private final int mascara;
+        // semente aleatória: impede que se escolham chaves que colidam de propósito
+        private final long semente = ThreadLocalRandom.current().nextLong();
+        private final int limite;
+        private final long janelaMs;
+        private final long atrasoBaseMs;
+        private final long atrasoMaximoMs;
+
+        Contadores(int capacidade, int limite, long janelaMs, long atrasoBaseMs, long atrasoMaximoMs) {
+            int tamanho = Integer.highestOneBit(Math.max(2, capacidade - 1)) << 1;
+            this.posicoes = new AtomicReferenceArray<>(tamanho);
+            this.mascara = tamanho - 1;
+            this.limite = limite;
+            this.janelaMs = janelaMs;
+            this.atrasoBaseMs = atrasoBaseMs;
+            this.atrasoMaximoMs = atrasoMaximoMs;
+        }
+
+        /**
+         * Conta a tentativa, a menos que a chave esteja bloqueada.
+         *
+         * @return 0 se a tentativa foi contada; senão, a espera restante em milissegundos.
+         */
+        long tentar(String chave, long agora) {
+            long hash = hash(chave);
+            int primeira = primeiraPosicao(hash);
+            int segunda = segundaPosicao(hash);
+            while (true) {
+                Janela a = posicoes.get(primeira);
+                Janela b = posicoes.get(segunda);
+                int alvo;
+                Janela atual;
+                Janela nova;
+                if (a != null && a.hash() == hash || b != null && b.hash() == hash) {
+                    alvo = a != null && a.hash() == hash ? primeira : segunda;
+                    atual = alvo == primeira ? a : b;
+                    long espera = espera(atual, agora);
+                    if (espera > 0) {
+                        return espera;
+                    }
+                    nova = atual.comTentativa(agora, janelaMs);
+                } else {
+                    double estimativaA = a == null ? 0 : a.estimativa(agora, janelaMs);
+                    double estimativaB = b == null ? 0 : b.estimativa(agora, janelaMs);
+                    if (Math.min(estimativaA, estimativaB) >= limite) {
+                        // as duas posições guardam chaves bloqueadas: não são despejadas
+                        return 0;
+                    }
+                    alvo = estimativaA <= estimativaB ? primeira : segunda;
+                    atual = alvo == primeira ? a : b;
+                    nova = Janela.primeiraTentativa(hash, agora, janelaMs);
+                }
+                if (posicoes.compareAndSet(alvo, atual, nova)) {
+                    return 0;
+                }
+            }
+        }
+
+        /**
+         * Desconta uma tentativa contada na janela atual.
+         */
+        void desfazer(String chave, long agora) {
+            long hash = hash(chave);
+            for (int posicao : new int[]{primeiraPosicao(hash), segundaPosicao(hash)}) {
+                Janela janela;
+                do {
+                    janela = posicoes.get(posicao);
+                    if (janela == null || janela.hash() != hash) {
+                        break;
+                    }
+                } while (!posicoes.compareAndSet(posicao, janela, janela.semTentativa(agora, janelaMs)));
+            }
+        }
+
+        void limpar(String chave) {
+            long hash = hash(chave);
+            for (int posicao : new int[]{primeiraPosicao(hash), segundaPosicao(hash)}) {
+                Janela janela = posicoes.get(posicao);
+                if (janela != null && janela.hash() == hash) {
+                    posicoes.compareAndSet(posicao, janela, null);
+                }
+            }
+        }
+
+        private long espera(Janela janela, long agora) {
+            double estimativa = janela.estimativa(agora, janelaMs);
+            if (estimativa < limite) {
+                return 0;
+            }
+            int excesso = (int) Math.min(30, estimativa - limite);
+            long atraso = Math.min(atrasoMaximoMs, atrasoBaseMs << excesso);
+            return janela.ultimaTentativa() + atraso - agora;
+        }
+
+        private int primeiraPosicao(long hash) {
+            return (int) hash & mascara;
+        }
+
+        private int segundaPosicao(long hash) {
+            int posicao = (int) (hash >>> 32) & mascara;
+            return posicao == primeiraPosicao(hash) ? posicao ^ 1 : posicao;
+        }
+
+        /**
+         * FNV-1a de 64 bits a partir da semente, com mistura final.
+         */
+        private long hash(String chave) {
+            long h = semente ^ 0xcbf29ce484222325L;
+            if (chave == null) {
+                return h;
+            }
+            for (int i = 0; i < chave.length(); i++) {
+                h = (h ^ chave.charAt(i)) * 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            return h ^ (h >>> 33);
+        }
+    }
+
+    /**
+     * Contagem de tentativas de uma chave em duas janelas fixas consecutivas; a janela deslizante
+     * é estimada ponderando a anterior pela fração que ainda se sobrepõe a ela.
+     */
+    private record Janela(long hash, long inicio, int anterior, int atual, long ultimaTentativa) {
+
+        static Janela primeiraTentativa(long hash, long agora, long janelaMs) {
+            return new Janela(hash, agora - agora % janelaMs, 0, 1, agora);
+        }
+
+        Janela comTentativa(long agora, long janelaMs) {
+            Janela avancada = avancar(agora, janelaMs);
+            return new Janela(hash, avancada.inicio, avancada.anterior, avancada.atual + 1, agora);
+        }
+
+        Janela semTentativa(long agora, long janelaMs) {
+            Janela avancada = avancar(agora, janelaMs);
+            return new Janela(hash, avancada.inicio, avancada.anterior, Math.max(0, avancada.atual - 1),
+                    ultimaTentativa);
+        }
+
+        double estimativa(long agora, long janelaMs) {
+            Janela avancada = avancar(agora, janelaMs);
+            double sobreposicao = 1.0 - (double) (agora - avancada.inicio) / janelaMs;
+            return avancada.anterior * sobreposicao + avancada.atual;
+        }
+
+        private Janela avancar(long agora, long janelaMs) {
+            if (agora < inicio + janelaMs) {
+                return this;
+            }
+            if (agora < inicio + 2 * janelaMs) {
+                return new Janela(hash, inicio + janelaMs, atual, 0, ultimaTentativa);
+            }
+            return new Janela(hash, agora - agora % janelaMs, 0, 0, ultimaTentativa);
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.gestaoprojetos.security;
+
+import com.gestaoprojetos.exception.TooManyRequestsException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PasswordEncoder que executa o hash/verificação (BCrypt) em um pool próprio e limitado.
+ * <p>
+ * O BCrypt é caro em CPU; rodando direto nas threads do Tomcat, uma rajada de logins
+ * ocupa todas elas e derruba os demais endpoints. Aqui no máximo {@code threads} hashes
+ * rodam ao mesmo tempo e no máximo {@code fila} esperam; acima disso (ou se a espera passar
+ * de {@code esperaMaximaMs}) a operação é recusada na hora com {@link TooManyRequestsException},
+ * que os controllers convertem em 429.
+ * <p>
+ * Métricas: senhas.espera (tempo na fila), senhas.execucao (tempo do hash), ambas com a tag
+ * operacao=encode|matches; senhas.rejeitadas; e as do executor "senhas" (fila, ativas, concluídas).
+ */
+public class PasswordEncoderLimitado implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final long esperaMaximaMs;
+
+    private final Timer esperaEncode;
+    private final Timer esperaMatches;
+    private final Timer execucaoEncode;
+    private final Timer execucaoMatches;
+    private final Counter rejeitadas;
+
+    public PasswordEncoderLimitado(PasswordEncoder delegate, int threads, int fila, long esperaMaximaMs,
+                                   MeterRegistry registry) {
+        this.delegate = delegate;
+        this.esperaMaximaMs = esperaMaximaMs;
+
+        AtomicInteger contador = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(
+                threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                tarefa -> {
+                    Thread thread = new Thread(tarefa, "senhas-" + contador.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy()
+        );
+        ExecutorServiceMetrics.monitor(registry, executor, "senhas");
+
+        this.esperaEncode = timer(registry, "senhas.espera", "encode");
+        this.esperaMatches = timer(registry, "senhas.espera", "matches");
+        this.execucaoEncode = timer(registry, "senhas.execucao", "encode");
+        this.execucaoMatches = timer(registry, "senhas.execucao", "matches");
+        this.rejeitadas = Counter.builder("senhas.rejeitadas")
+                .description("Operações de senha recusadas por fila cheia ou espera excedida")
+                .register(registry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> delegate.encode(rawPassword), esperaEncode, execucaoEncode);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> delegate.matches(rawPassword, encodedPassword), esperaMatches, execucaoMatches);
+    }
+
+    /**
+     * Só inspeciona o formato do hash (barato): roda na própria thread.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private <T> T executar(Callable<T> operacao, Timer espera, Timer execucao) {
+        long enfileiradoEm = System.nanoTime();
+        Future<T> futuro;
+        try {
+            futuro = executor.submit(() -> {
+                espera.record(System.nanoTime() - enfileiradoEm, TimeUnit.NANOSECONDS);
+                return execucao.recordCallable(operacao);
+            });
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            throw new TooManyRequestsException("Muitas requisições de autenticação; tente novamente em instantes.");
+        }
+
+        try {
+            return futuro.get(esperaMaximaMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            futuro.cancel(true);
+            rejeitadas.increment();
+            throw new TooManyRequestsException("Muitas requisições de autenticação; tente novamente em instantes.");
+        } catch (InterruptedException e) {
+            futuro.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Operação de senha interrompida.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException causa) {
+                throw causa;
+            }
+            throw new IllegalStateException("Falha na operação de senha.", e.getCause());
+        }
+    }
+
+    private static Timer timer(MeterRegistry registry, String nome, String operacao) {
+        return Timer.builder(nome)
+                .tag("operacao", operacao)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(registry);
+    }
+}
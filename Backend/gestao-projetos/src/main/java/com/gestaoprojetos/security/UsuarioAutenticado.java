@@ -0,0 +1,85 @@
+package com.gestaoprojetos.security;
+
+import com.gestaoprojetos.model.Usuario;
+import lombok.Getter;
+import lombok.ToString;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Principal da aplicação: os dados do Usuario que viajam dentro do JWT.
+ * <p>
+ * No login é montado a partir do banco (com o hash da senha, para o AuthenticationManager);
+ * nas demais requisições é montado só com as claims já verificadas do token, sem senha
+ * e sem consulta ao banco.
+ */
+@Getter
+@ToString(exclude = "password")
+public class UsuarioAutenticado implements UserDetails {
+
+    /**
+     * Authorities atribuídas a todo usuário (ainda não há papéis por usuário).
+     */
+    public static final List<String> AUTHORITIES_PADRAO = List.of("USER");
+
+    /**
+     * Authority de administrador: pode agir sobre os dados de qualquer usuário.
+     */
+    public static final String AUTHORITY_ADMIN = "ADMIN";
+
+    private final Long id;
+    private final String username;
+    private final String password;
+    private final Long pessoaId;
+    private final long tokenVersao;
+    private final List<GrantedAuthority> authorities;
+
+    public UsuarioAutenticado(Long id, String username, String password, Long pessoaId,
+                              long tokenVersao, Collection<String> authorities) {
+        this.id = id;
+        this.username = username;
+        this.password = password;
+        this.pessoaId = pessoaId;
+        this.tokenVersao = tokenVersao;
+        this.authorities = AuthorityUtils.createAuthorityList(authorities);
+    }
+
+    /**
+     * Monta o principal a partir do Usuario persistido (usado no login).
+     */
+    public static UsuarioAutenticado de(Usuario usuario) {
+        return new UsuarioAutenticado(
+                usuario.getId(),
+                usuario.getUsername(),
+                usuario.getPassword(),
+                usuario.getPessoa() != null ? usuario.getPessoa().getId() : null,
+                usuario.getTokenVersao(),
+                AUTHORITIES_PADRAO
+        );
+    }
+
+    /**
+     * Cópia do principal com outro hash de senha (depois do rehash no login).
+     */
+    public UsuarioAutenticado comSenha(String novoHash) {
+        return new UsuarioAutenticado(id, username, novoHash, pessoaId, tokenVersao, getNomesAuthorities());
+    }
+
+    /**
+     * Indica se o principal é o próprio usuário informado ou um administrador.
+     */
+    public boolean podeAlterarUsuario(Long usuarioId) {
+        return (id != null && id.equals(usuarioId)) || getNomesAuthorities().contains(AUTHORITY_ADMIN);
+    }
+
+    /**
+     * Nomes das authorities, no formato gravado no token.
+     */
+    public List<String> getNomesAuthorities() {
+        return AuthorityUtils.authorityListToSet(authorities).stream().sorted().toList();
+    }
+}
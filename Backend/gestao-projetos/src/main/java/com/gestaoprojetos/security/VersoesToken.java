@@ -0,0 +1,102 @@
+package com.gestaoprojetos.security;
+
+import com.gestaoprojetos.repository.UsuarioRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Controle de revogação de tokens por versão.
+ * <p>
+ * Cada Usuario tem um contador tokenVersao, gravado também no JWT (claim "ver").
+ * Revogar os tokens (logout, troca de senha) é só incrementar o contador: tokens
+ * emitidos com a versão anterior deixam de ser aceitos.
+ * <p>
+ * A versão atual fica em um cache LRU limitado; cada entrada vale por {@link #VALIDADE_MS},
+ * para que revogações feitas em outra instância da aplicação também sejam vistas.
+ * Como a versão só cresce, o cache nunca troca uma versão pela anterior: uma leitura do banco
+ * iniciada antes de uma revogação não desfaz a revogação ao terminar.
+ */
+@Component
+public class VersoesToken {
+
+    /**
+     * Quantidade máxima de usuários mantidos em memória.
+     */
+    public static final int CAPACIDADE = 10_000;
+
+    /**
+     * Tempo em que uma versão lida do banco é considerada atual (30 segundos).
+     */
+    public static final long VALIDADE_MS = 30_000;
+
+    private final UsuarioRepository usuarioRepository;
+
+    private final Map<Long, Versao> versoes = new LinkedHashMap<>(64, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Long, Versao> maisAntiga) {
+            return size() > CAPACIDADE;
+        }
+    };
+
+    public VersoesToken(UsuarioRepository usuarioRepository) {
+        this.usuarioRepository = usuarioRepository;
+    }
+
+    /**
+     * Indica se um token emitido com a versão informada ainda é aceito.
+     *
+     * @param usuarioId   ID do usuário (claim "uid").
+     * @param tokenVersao versão gravada no token (claim "ver").
+     * @return false se o usuário não existir mais ou se os tokens dele foram revogados depois da emissão.
+     */
+    public boolean aceita(Long usuarioId, long tokenVersao) {
+        Long atual = versaoAtual(usuarioId);
+        return atual != null && atual == tokenVersao;
+    }
+
+    /**
+     * Registra a nova versão depois de uma revogação feita nesta instância.
+     * Deve ser chamado depois do commit da revogação, para que uma versão desfeita por rollback
+     * nunca chegue ao cache.
+     */
+    public void atualizar(Long usuarioId, long tokenVersao) {
+        guardar(usuarioId, new Versao(tokenVersao, System.currentTimeMillis()));
+    }
+
+    private Long versaoAtual(Long usuarioId) {
+        long agora = System.currentTimeMillis();
+        synchronized (versoes) {
+            Versao versao = versoes.get(usuarioId);
+            if (versao != null && agora - versao.lidaEm() < VALIDADE_MS) {
+                return versao.valor();
+            }
+        }
+
+        Long valor = usuarioRepository.findTokenVersaoById(usuarioId).orElse(null);
+        if (valor == null) {
+            synchronized (versoes) {
+                versoes.remove(usuarioId);
+            }
+            return null;
+        }
+        return guardar(usuarioId, new Versao(valor, agora)).valor();
+    }
+
+    /**
+     * Grava a versão, a menos que o cache já tenha uma maior (revogação registrada enquanto
+     * esta versão era lida do banco).
+     *
+     * @return a versão que ficou no cache.
+     */
+    private Versao guardar(Long usuarioId, Versao nova) {
+        synchronized (versoes) {
+            return versoes.merge(usuarioId, nova,
+                    (atual, lida) -> atual.valor() > lida.valor() ? atual : lida);
+        }
+    }
+
+    private record Versao(long valor, long lidaEm) {
+    }
+}
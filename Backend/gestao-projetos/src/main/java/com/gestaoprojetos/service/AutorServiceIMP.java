@@ -1,15 +1,24 @@
 package com.gestaoprojetos.service;
 
+import com.gestaoprojetos.controller.DTO.AutorDTO;
+import com.gestaoprojetos.controller.DTO.AutorDTO.AutorRequestDTO;
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Autor;
 import com.gestaoprojetos.model.Projeto;
 import com.gestaoprojetos.repository.AutorRepository;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.repository.ProjetoRepository;
+import com.gestaoprojetos.repository.ResolvedorIds;
+import com.gestaoprojetos.utils.LeitorCsv;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.Reader;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -22,38 +31,107 @@ import java.util.List;
 public class AutorServiceIMP extends BasicRepositoryIMP<AutorRepository, Autor, Long> {
 
     private final ProjetoRepository projetoRepository;
+    private final DiretorioPessoas diretorioPessoas;
+    private final ImportacaoEmLotes importacaoEmLotes;
+
+    /**
+     * Colunas do CSV de importação de autores.
+     */
+    public static final List<String> COLUNAS_IMPORTACAO = List.of("nome", "cpf", "email", "telefone");
 
     /**
      * Construtor: o Spring injeta AutorRepository e ProjetoRepository.
      * - AutorRepository é passado para BasicRepositoryIMP.
      * - ProjetoRepository é usado para validar existência de Projetos.
+     * - DiretorioPessoas é avisado quando um Autor é removido.
+     * - ImportacaoEmLotes grava a importação CSV em transações por lote.
      */
-    public AutorServiceIMP(AutorRepository autorRepository, ProjetoRepository projetoRepository) {
+    public AutorServiceIMP(AutorRepository autorRepository, ProjetoRepository projetoRepository,
+                           DiretorioPessoas diretorioPessoas, ImportacaoEmLotes importacaoEmLotes) {
         super(autorRepository);
         this.projetoRepository = projetoRepository;
+        this.diretorioPessoas = diretorioPessoas;
+        this.importacaoEmLotes = importacaoEmLotes;
     }
 
     /**
-     * Cria um novo Autor.
+     * Cria um novo Autor e o associa aos projetos informados.
+     * <p>
+     * Os projetos são resolvidos com uma única consulta IN e a associação é gravada pelo lado
+     * dono (Projeto.autores).
      *
-     * @param autor Objeto preenchido (nome, cpf, email, telefone).
+     * @param autor       Objeto preenchido (nome, cpf, email, telefone).
+     * @param projetosIds IDs dos projetos do autor (null ou vazio cria o autor sem projetos).
      * @return Autor persistido (com ID gerado).
-     * @throws BadRequestException se campos obrigatórios estiverem ausentes ou inválidos.
+     * @throws BadRequestException       se campos obrigatórios estiverem ausentes ou inválidos,
+     *                                   ou se a lista de IDs contiver nulos.
+     * @throws ResourceNotFoundException listando todos os IDs de projeto inexistentes.
      */
-    public Autor criarAutor(Autor autor) throws BadRequestException {
+    public Autor criarAutor(Autor autor, List<Long> projetosIds)
+            throws BadRequestException, ResourceNotFoundException {
         if (autor == null) {
             throw new BadRequestException("Objeto Autor não pode ser nulo.");
         }
 
         validarCamposBasicos(autor);
-        return save(autor);
+        List<Projeto> projetos = ResolvedorIds.resolver(projetoRepository, projetosIds, Projeto::getId, "Projeto");
+
+        Autor salvo = save(autor);
+        for (Projeto projeto : projetos) {
+            projeto.getAutores().add(salvo);
+            salvo.getProjetos().add(projeto);
+        }
+        return salvo;
+    }
+
+    /**
+     * Importa autores de um CSV com as colunas {@link #COLUNAS_IMPORTACAO}, lido como stream.
+     * <p>
+     * Cada linha passa pelas mesmas validações de {@link #criarAutor(Autor, List)}; as válidas são
+     * gravadas em lotes de {@link ImportacaoEmLotes#TAMANHO_LOTE}, cada lote na sua transação.
+     * Linhas inválidas não interrompem a importação: voltam no resultado com o motivo.
+     * Os lotes já gravados permanecem mesmo que a leitura falhe depois.
+     *
+     * @param csv conteúdo do arquivo.
+     * @return totais e linhas rejeitadas.
+     * @throws BadRequestException se o arquivo estiver vazio ou faltar alguma coluna.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResultadoImportacaoDTO importarCsv(Reader csv) {
+        LeitorCsv leitor = new LeitorCsv(csv, COLUNAS_IMPORTACAO);
+        ImportacaoEmLotes.Relatorio relatorio = new ImportacaoEmLotes.Relatorio();
+        List<ImportacaoEmLotes.Item<AutorRequestDTO>> lote = new ArrayList<>(ImportacaoEmLotes.TAMANHO_LOTE);
+
+        for (LeitorCsv.Linha linha = leitor.proxima(); linha != null; linha = leitor.proxima()) {
+            relatorio.receber();
+            if (linha.getErro() != null) {
+                relatorio.rejeitar(linha.getNumero(), linha.getErro());
+                continue;
+            }
+            AutorRequestDTO dados = new AutorRequestDTO(linha.valor("nome"), linha.valor("cpf"),
+                    linha.valor("telefone"), linha.valor("email"), null);
+            try {
+                validarCamposBasicos(AutorDTO.toAutor(dados));
+            } catch (BadRequestException e) {
+                relatorio.rejeitar(linha.getNumero(), e.getMessage());
+                continue;
+            }
+            lote.add(new ImportacaoEmLotes.Item<>(linha.getNumero(), dados));
+            if (lote.size() == ImportacaoEmLotes.TAMANHO_LOTE) {
+                importacaoEmLotes.gravar(lote, AutorDTO::toAutor, relatorio);
+                lote.clear();
+            }
+        }
+        importacaoEmLotes.gravar(lote, AutorDTO::toAutor, relatorio);
+        return relatorio.toDTO();
     }
 
     /**
      * Atualiza dados de um Autor existente.
      *
      * @param id         ID do Autor a ser atualizado.
-     * @param dadosNovos Objeto com novos dados (nome, cpf, email, telefone).
+     * @param dadosNovos Objeto com novos dados (nome, cpf, email, telefone). Os projetos do autor
+     *                   não são alterados aqui: use adicionarProjeto/removerProjeto.
      * @return Autor atualizado.
      * @throws ResourceNotFoundException se não houver Autor com esse ID.
      * @throws BadRequestException       se campos obrigatórios estiverem ausentes ou inválidos.
@@ -71,43 +149,48 @@ public class AutorServiceIMP extends BasicRepositoryIMP<AutorRepository, Autor,
         existente.setEmail(dadosNovos.getEmail());
         existente.setTelefone(dadosNovos.getTelefone());
 
-        return save(existente);
+        return carregar(save(existente), Autor::getProjetos);
     }
 
     /**
      * Busca um Autor por ID ou lança ResourceNotFoundException.
      *
      * @param id ID do Autor.
-     * @return Autor encontrado.
+     * @return Autor encontrado, com os projetos carregados.
      * @throws ResourceNotFoundException se não houver Autor com esse ID.
      */
+    @Transactional(readOnly = true)
     public Autor buscarPorId(Long id) throws ResourceNotFoundException {
-        return findById(id)
+        return carregar(findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Autor não encontrado com ID: " + id)
-                );
+                ), Autor::getProjetos);
     }
 
     /**
-     * Retorna todos os Autores cadastrados.
+     * Retorna uma página de Autores, ordenada por ID e paginada por cursor.
      *
-     * @return lista de Autor (pode vir vazia).
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de Autor, com os projetos carregados (pode vir vazia).
      */
-    public List<Autor> listarTodos() {
-        return findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<Autor> listarTodos(String cursor, Integer tamanho) {
+        return carregarItens(findPage(cursor, tamanho), Autor::getProjetos);
     }
 
     /**
-     * Deleta um Autor por ID.
+     * Deleta um Autor por ID, sem consulta prévia: um DELETE das associações com projetos
+     * e um do autor.
      *
      * @param id ID do Autor a ser removido.
      * @throws ResourceNotFoundException se não houver Autor com esse ID.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Autor não encontrado com ID: " + id);
         }
-        deleteById(id);
+        diretorioPessoas.esquecer(id);
     }
 
     /**
@@ -132,8 +215,8 @@ public class AutorServiceIMP extends BasicRepositoryIMP<AutorRepository, Autor,
                         new ResourceNotFoundException("Projeto não encontrado com ID: " + projeto.getId())
                 );
 
-        // Verificar se o projeto já está associado ao autor
-        if (autor.getProjetos().stream().anyMatch(p -> p.getId().equals(projeto.getId()))) {
+        // Projeto.autores é o lado dono da associação: é ele que grava a linha em _projeto_autor
+        if (!projetoExistente.getAutores().add(autor)) {
             throw new BadRequestException("Projeto já está associado a este autor.");
         }
 
@@ -152,9 +235,9 @@ public class AutorServiceIMP extends BasicRepositoryIMP<AutorRepository, Autor,
     public Autor removerProjeto(Long autorId, Long projetoId) throws ResourceNotFoundException {
         Autor autor = buscarPorId(autorId);
 
-        Projeto projetoEncontrado = autor.getProjetos().stream()
-                .filter(p -> p.getId().equals(projetoId))
-                .findFirst()
+        // Removido do lado dono (Projeto.autores): um DELETE só da linha deste autor
+        Projeto projetoEncontrado = projetoRepository.findById(projetoId)
+                .filter(p -> p.getAutores().remove(autor))
                 .orElseThrow(() ->
                         new ResourceNotFoundException(
                                 "Projeto não encontrado com ID: " + projetoId + " para o Autor ID: " + autorId
@@ -172,9 +255,10 @@ public class AutorServiceIMP extends BasicRepositoryIMP<AutorRepository, Autor,
      * @return lista de Projeto associados.
      * @throws ResourceNotFoundException se Autor não existir.
      */
+    @Transactional(readOnly = true)
     public List<Projeto> listarProjetos(Long autorId) {
         Autor autor = buscarPorId(autorId);
-        return autor.getProjetos();
+        return new ArrayList<>(autor.getProjetos());
     }
 
     /**
@@ -1,17 +1,28 @@
 package com.gestaoprojetos.service;
 
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoRequestDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoResponseDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.ItemLoteDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.ResultadoLoteDTO;
+import com.gestaoprojetos.controller.DTO.AvaliadorDTO.AvaliadorResumoDTO;
+import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoResumoDTO;
+import com.gestaoprojetos.controller.DTO.StatusDTO.StatusResumoDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Avaliacao;
 import com.gestaoprojetos.model.Avaliador;
 import com.gestaoprojetos.model.Projeto;
-import com.gestaoprojetos.model.Status;
 import com.gestaoprojetos.repository.*;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 
 /**
  * Serviço para a entidade Avaliacao.
@@ -24,22 +35,39 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
         AvaliacaoRepository, Avaliacao, Long> {
 
     private final AvaliadorRepository avaliadorRepository;
-    private final StatusRepository statusRepository;
+    private final RegistroStatus registroStatus;
     private final ProjetoRepository projetoRepository;
 
     /**
-     * Construtor: injeta AvaliacaoRepository, AvaliadorRepository, StatusRepository e ProjetoRepository.
+     * Quantidade máxima de avaliações aceitas em um único envio em lote.
+     */
+    public static final int LOTE_MAXIMO = 500;
+
+    /**
+     * AvaliacaoResponseDTO montado na consulta: avaliador, projeto e status entram por JOIN
+     * apenas com as colunas dos DTOs resumo (o resumo do projeto, por exemplo, não é lido).
+     */
+    private static final Projecao<Avaliacao, AvaliacaoResponseDTO> RESPOSTA = (root, cb) -> cb.construct(
+            AvaliacaoResponseDTO.class,
+            root.get("id"), root.get("parecer"), root.get("nota"), root.get("dataAvaliacao"),
+            cb.construct(AvaliadorResumoDTO.class, caminhos(root, "avaliador.id", "avaliador.nome", "avaliador.email")),
+            cb.construct(ProjetoResumoDTO.class, caminhos(root, "projeto.id", "projeto.titulo", "projeto.areaTematica")),
+            cb.construct(StatusResumoDTO.class, caminhos(root, "status.id", "status.description"))
+    );
+
+    /**
+     * Construtor: injeta AvaliacaoRepository, AvaliadorRepository, RegistroStatus e ProjetoRepository.
      * - AvaliacaoRepository é passado para BasicRepositoryIMP.
      */
     public AvaliacaoServiceIMP(
             AvaliacaoRepository avaliacaoRepository,
             AvaliadorRepository avaliadorRepository,
-            StatusRepository statusRepository,
+            RegistroStatus registroStatus,
             ProjetoRepository projetoRepository
     ) {
         super(avaliacaoRepository);
         this.avaliadorRepository = avaliadorRepository;
-        this.statusRepository = statusRepository;
+        this.registroStatus = registroStatus;
         this.projetoRepository = projetoRepository;
     }
 
@@ -70,11 +98,8 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
         if (statusId == null) {
             throw new BadRequestException("O ID do Status deve ser informado.");
         }
-        Status status = statusRepository.findById(statusId)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Status não encontrado com ID: " + statusId)
-                );
-        avaliacao.setStatus(status);
+        // Tabela de referência: resolvida pelo registro em memória, sem consulta
+        avaliacao.setStatus(registroStatus.referencia(statusId));
 
         // 3. Verificar existência de Projeto
         Long projetoId = avaliacao.getProjeto().getId();
@@ -87,8 +112,122 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
                 );
         avaliacao.setProjeto(projeto);
 
-        // 4. Persistir e retornar
-        return save(avaliacao);
+        // 4. Persistir, somar a nota ao resumo do projeto e retornar
+        Avaliacao salva = save(avaliacao);
+        projetoRepository.registrarNota(projetoId, salva.getNota(), salva.getDataAvaliacao());
+        return salva;
+    }
+
+    /**
+     * Cria várias avaliações de uma vez.
+     * <p>
+     * Cada item passa pelas mesmas validações de {@link #criarAvaliacao(Avaliacao)}, mas as
+     * referências são conferidas em conjunto: uma consulta IN por tipo (avaliador, status, projeto).
+     * Os itens válidos são gravados em JDBC batch (IDs da sequence em bloco) e o resumo de notas dos
+     * projetos afetados é recalculado em um único UPDATE. Itens inválidos não interrompem o lote:
+     * voltam no resultado com o motivo da rejeição.
+     *
+     * @param pedidos avaliações a criar (no máximo {@link #LOTE_MAXIMO}).
+     * @return resultado por item, na mesma ordem da lista recebida.
+     * @throws BadRequestException se a lista for vazia ou maior que o limite.
+     */
+    public ResultadoLoteDTO criarAvaliacoesEmLote(List<AvaliacaoRequestDTO> pedidos) {
+        if (pedidos == null || pedidos.isEmpty()) {
+            throw new BadRequestException("O lote de avaliações não pode ser vazio.");
+        }
+        if (pedidos.size() > LOTE_MAXIMO) {
+            throw new BadRequestException("O lote aceita no máximo " + LOTE_MAXIMO
+                    + " avaliações (recebidas: " + pedidos.size() + ").");
+        }
+
+        // 1. Validação de campos item a item
+        String[] erros = new String[pedidos.size()];
+        for (int i = 0; i < pedidos.size(); i++) {
+            if (pedidos.get(i) == null) {
+                erros[i] = "Objeto Avaliacao não pode ser nulo.";
+                continue;
+            }
+            try {
+                validarCamposBasicos(AvaliacaoDTO.toAvaliacao(pedidos.get(i)));
+            } catch (BadRequestException e) {
+                erros[i] = e.getMessage();
+            }
+        }
+
+        // 2. Referências conferidas em conjunto: uma consulta por tipo de entidade
+        Set<Long> avaliadores = avaliadorRepository.findIdsExistentes(
+                idsReferenciados(pedidos, erros, AvaliacaoRequestDTO::getAvaliadorId));
+        Set<Long> status = registroStatus.idsExistentes(
+                idsReferenciados(pedidos, erros, AvaliacaoRequestDTO::getStatusId));
+        Set<Long> projetos = projetoRepository.findIdsExistentes(
+                idsReferenciados(pedidos, erros, AvaliacaoRequestDTO::getProjetoId));
+
+        List<Integer> validos = new ArrayList<>();
+        for (int i = 0; i < pedidos.size(); i++) {
+            if (erros[i] != null) {
+                continue;
+            }
+            AvaliacaoRequestDTO pedido = pedidos.get(i);
+            if (!avaliadores.contains(pedido.getAvaliadorId())) {
+                erros[i] = "Avaliador não encontrado com ID: " + pedido.getAvaliadorId();
+            } else if (!status.contains(pedido.getStatusId())) {
+                erros[i] = "Status não encontrado com ID: " + pedido.getStatusId();
+            } else if (!projetos.contains(pedido.getProjetoId())) {
+                erros[i] = "Projeto não encontrado com ID: " + pedido.getProjetoId();
+            } else {
+                validos.add(i);
+            }
+        }
+
+        // 3. Inserção dos válidos em JDBC batch e atualização do resumo dos projetos afetados
+        Long[] ids = new Long[pedidos.size()];
+        if (!validos.isEmpty()) {
+            List<Long> gerados = inserirEmLote(validos.stream().map(pedidos::get).toList());
+            for (int j = 0; j < validos.size(); j++) {
+                ids[validos.get(j)] = gerados.get(j);
+            }
+            projetoRepository.recalcularResumos(
+                    idsReferenciados(pedidos, erros, AvaliacaoRequestDTO::getProjetoId));
+        }
+
+        List<ItemLoteDTO> itens = new ArrayList<>(pedidos.size());
+        for (int i = 0; i < pedidos.size(); i++) {
+            itens.add(new ItemLoteDTO(i, ids[i], erros[i]));
+        }
+        return new ResultadoLoteDTO(pedidos.size(), validos.size(), pedidos.size() - validos.size(), itens);
+    }
+
+    /**
+     * IDs distintos referenciados pelos itens ainda sem erro.
+     */
+    private static Set<Long> idsReferenciados(List<AvaliacaoRequestDTO> pedidos, String[] erros,
+                                              Function<AvaliacaoRequestDTO, Long> id) {
+        Set<Long> ids = new LinkedHashSet<>();
+        for (int i = 0; i < pedidos.size(); i++) {
+            if (erros[i] == null) {
+                ids.add(id.apply(pedidos.get(i)));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Grava as avaliações pelo próprio Hibernate e devolve os IDs gerados, na ordem.
+     * Os IDs vêm da sequence em blocos (allocationSize) e os INSERTs seguem em JDBC batch
+     * (hibernate.jdbc.batch_size); as referências já foram conferidas, então usamos proxies.
+     */
+    private List<Long> inserirEmLote(List<AvaliacaoRequestDTO> pedidos) {
+        List<Avaliacao> avaliacoes = new ArrayList<>(pedidos.size());
+        for (AvaliacaoRequestDTO pedido : pedidos) {
+            Avaliacao avaliacao = new Avaliacao(pedido.getParecer(), pedido.getNota());
+            avaliacao.setDataAvaliacao(pedido.getDataAvaliacao());
+            avaliacao.setAvaliador(avaliadorRepository.getReferenceById(pedido.getAvaliadorId()));
+            avaliacao.setStatus(registroStatus.referencia(pedido.getStatusId()));
+            avaliacao.setProjeto(projetoRepository.getReferenceById(pedido.getProjetoId()));
+            avaliacoes.add(avaliacao);
+        }
+        List<Avaliacao> salvas = getRepository().saveAllAndFlush(avaliacoes);
+        return salvas.stream().map(Avaliacao::getId).toList();
     }
 
     /**
@@ -106,6 +245,8 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Avaliação não encontrada com ID: " + id)
                 );
+        Long projetoAnteriorId = existente.getProjeto().getId();
+        Double notaAnterior = existente.getNota();
 
         // 2. Validar campos
         validarCamposBasicos(dadosNovos);
@@ -129,11 +270,7 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
             throw new BadRequestException("O ID do Status deve ser informado.");
         }
         if (!novoStatusId.equals(existente.getStatus().getId())) {
-            Status novoStatus = statusRepository.findById(novoStatusId)
-                    .orElseThrow(() ->
-                            new ResourceNotFoundException("Status não encontrado com ID: " + novoStatusId)
-                    );
-            existente.setStatus(novoStatus);
+            existente.setStatus(registroStatus.referencia(novoStatusId));
         }
 
         // 5. Se quisermos trocar de Projeto
@@ -154,44 +291,52 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
         existente.setNota(dadosNovos.getNota());
         existente.setDataAvaliacao(dadosNovos.getDataAvaliacao());
 
-        // 7. Persistir e retornar
-        return save(existente);
+        // 7. Persistir e trocar a nota antiga pela nova no resumo (do mesmo ou de outro projeto)
+        Avaliacao salva = save(existente);
+        projetoRepository.removerNota(projetoAnteriorId, notaAnterior);
+        projetoRepository.registrarNota(salva.getProjeto().getId(), salva.getNota(), salva.getDataAvaliacao());
+        return salva;
     }
 
     /**
      * Busca uma Avaliacao por ID ou lança ResourceNotFoundException.
      *
      * @param id ID da Avaliação.
-     * @return Avaliacao encontrada.
+     * @return Avaliacao encontrada, com avaliador, projeto e status carregados.
      * @throws ResourceNotFoundException se não houver avaliação com esse ID.
      */
+    @Transactional(readOnly = true)
     public Avaliacao buscarPorId(Long id) {
-        return findById(id)
+        return carregar(findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Avaliação não encontrada com ID: " + id)
-                );
+                ), Avaliacao::getAvaliador, Avaliacao::getProjeto, Avaliacao::getStatus);
     }
 
     /**
-     * Retorna todas as Avaliacoes cadastradas.
+     * Retorna uma página de Avaliacoes, ordenada por ID e paginada por cursor.
      *
-     * @return lista de Avaliacao (pode vir vazia).
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de avaliações já convertidas em DTO, em uma única consulta (pode vir vazia).
      */
-    public List<Avaliacao> listarTodos() {
-        return findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<AvaliacaoResponseDTO> listarTodos(String cursor, Integer tamanho) {
+        return findPage(RESPOSTA, cursor, tamanho);
     }
 
     /**
-     * Deleta uma Avaliacao por ID.
+     * Deleta uma Avaliacao por ID, sem carregá-la: um UPDATE retira a nota do resumo do
+     * projeto (lendo-a da própria linha) e um DELETE remove a avaliação.
      *
      * @param id ID da Avaliação a ser removida.
      * @throws ResourceNotFoundException se não existir avaliação com esse ID.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        projetoRepository.removerNotaDaAvaliacao(id);
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Avaliação não encontrada com ID: " + id);
         }
-        deleteById(id);
     }
 
     /**
@@ -200,6 +345,7 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
      * @param data LocalDate da avaliação.
      * @return lista de Avaliacao nesse dia.
      */
+    @Transactional(readOnly = true)
     public List<Avaliacao> listarPorData(LocalDate data) {
         return getRepository().findByDataAvaliacao(data);
     }
@@ -211,12 +357,16 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
      * @return lista de Avaliacao do projeto.
      * @throws ResourceNotFoundException se o projeto não existir.
      */
+    @Transactional(readOnly = true)
     public List<Avaliacao> listarPorProjeto(Long projetoId) {
         projetoRepository.findById(projetoId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Projeto não encontrado com ID: " + projetoId)
                 );
-        return getRepository().findByProjetoId(projetoId);
+        List<Avaliacao> avaliacoes = getRepository().findByProjetoId(projetoId);
+        avaliacoes.forEach(avaliacao ->
+                carregar(avaliacao, Avaliacao::getAvaliador, Avaliacao::getProjeto, Avaliacao::getStatus));
+        return avaliacoes;
     }
 
     /**
@@ -226,12 +376,16 @@ public class AvaliacaoServiceIMP extends BasicRepositoryIMP<
      * @return lista de Avaliacao desse avaliador.
      * @throws ResourceNotFoundException se o avaliador não existir.
      */
+    @Transactional(readOnly = true)
     public List<Avaliacao> listarPorAvaliador(Long avaliadorId) {
         avaliadorRepository.findById(avaliadorId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Avaliador não encontrado com ID: " + avaliadorId)
                 );
-        return getRepository().findByAvaliadorId(avaliadorId);
+        List<Avaliacao> avaliacoes = getRepository().findByAvaliadorId(avaliadorId);
+        avaliacoes.forEach(avaliacao ->
+                carregar(avaliacao, Avaliacao::getAvaliador, Avaliacao::getProjeto, Avaliacao::getStatus));
+        return avaliacoes;
     }
 
     /**
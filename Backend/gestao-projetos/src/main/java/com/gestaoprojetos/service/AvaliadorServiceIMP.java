@@ -9,6 +9,8 @@ import com.gestaoprojetos.model.Avaliador;
 import com.gestaoprojetos.repository.AvaliacaoRepository;
 import com.gestaoprojetos.repository.AvaliadorRepository;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
+import com.gestaoprojetos.repository.CursorPage;
+import com.gestaoprojetos.repository.ProjetoRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -26,11 +28,22 @@ import java.util.List;
 public class AvaliadorServiceIMP extends
         BasicRepositoryIMP<AvaliadorRepository, Avaliador, Long> {
 
+    /**
+     * Dados de contato do Avaliador lidos direto no SELECT (sem carregar a entidade).
+     */
+    private static final Projecao<Avaliador, PessoaResponseDTO> RESUMO =
+            construtor(PessoaResponseDTO.class, "id", "nome", "cpf", "telefone", "email");
+
     private final AvaliacaoRepository avaliacaoRepository;
+    private final ProjetoRepository projetoRepository;
+    private final DiretorioPessoas diretorioPessoas;
 
-    public AvaliadorServiceIMP(AvaliadorRepository repository, AvaliacaoRepository avaliacaoRepository) {
+    public AvaliadorServiceIMP(AvaliadorRepository repository, AvaliacaoRepository avaliacaoRepository,
+                               ProjetoRepository projetoRepository, DiretorioPessoas diretorioPessoas) {
         super(repository);
         this.avaliacaoRepository = avaliacaoRepository;
+        this.projetoRepository = projetoRepository;
+        this.diretorioPessoas = diretorioPessoas;
     }
 
     /**
@@ -89,6 +102,7 @@ public class AvaliadorServiceIMP extends
      * @return Avaliador encontrado.
      * @throws ResourceNotFoundException se nenhum Avaliador for encontrado com esse ID.
      */
+    @Transactional(readOnly = true)
     public Avaliador buscarPorId(Long id) throws ResourceNotFoundException {
         return findById(id)
                 .orElseThrow(() ->
@@ -96,40 +110,51 @@ public class AvaliadorServiceIMP extends
                 );
     }
 
+    /**
+     * Busca os dados de contato de um Avaliador, sem carregar a entidade nem as avaliações.
+     *
+     * @param id ID do avaliador a ser buscado.
+     * @return dados do Avaliador.
+     * @throws ResourceNotFoundException se nenhum Avaliador for encontrado com esse ID.
+     */
+    @Transactional(readOnly = true)
     public PessoaResponseDTO LazyBuscarPorId(Long id) {
-        Avaliador avaliador = buscarPorId(id);
-        return new PessoaResponseDTO(avaliador.getId(), avaliador.getNome(), avaliador.getCpf(), avaliador.getTelefone(), avaliador.getEmail());
+        return findById(id, RESUMO)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Avaliador não encontrado com ID: " + id)
+                );
     }
 
     /**
-     * Retorna a lista de todos os Avaliadores cadastrados.
+     * Retorna uma página de Avaliadores, ordenada por ID e paginada por cursor.
      *
-     * @return Lista de Avaliadores.
-     * Se não houver nenhum, retorna lista vazia.
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de Avaliadores (só as colunas do DTO são lidas).
+     * Se não houver nenhum, retorna página vazia.
      */
-    public List<PessoaResponseDTO> listarTodos() {
-        return findAll().stream().map(
-                avaliador -> new PessoaResponseDTO(
-                        avaliador.getId(),
-                        avaliador.getNome(),
-                        avaliador.getCpf(),
-                        avaliador.getTelefone(),
-                        avaliador.getEmail()
-                )
-        ).toList();
+    @Transactional(readOnly = true)
+    public CursorPage<PessoaResponseDTO> listarTodos(String cursor, Integer tamanho) {
+        return findPage(RESUMO, cursor, tamanho);
     }
 
     /**
-     * Deleta um Avaliador por ID.
+     * Deleta um Avaliador por ID com um único DELETE e sem carregar nada; as avaliações dele são
+     * removidas pelo banco (ON DELETE CASCADE), como o cascade da entidade. As notas removidas
+     * saem do resumo dos projetos avaliados, que é recalculado em um único UPDATE.
      *
      * @param id ID do avaliador a ser removido.
      * @throws ResourceNotFoundException se o Avaliador não existir.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        List<Long> projetosAvaliados = avaliacaoRepository.findProjetoIdsPorAvaliador(id);
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Avaliador não encontrado com ID: " + id);
         }
-        deleteById(id);
+        if (!projetosAvaliados.isEmpty()) {
+            projetoRepository.recalcularResumos(projetosAvaliados);
+        }
+        diretorioPessoas.esquecer(id);
     }
 
     /**
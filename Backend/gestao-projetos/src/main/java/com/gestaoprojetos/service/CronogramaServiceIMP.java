@@ -6,11 +6,10 @@ import com.gestaoprojetos.model.Cronograma;
 import com.gestaoprojetos.model.Premio;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
 import com.gestaoprojetos.repository.CronogramaRepository;
+import com.gestaoprojetos.repository.CursorPage;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 /**
  * Service para a entidade Cronograma.
  * Estende BasicRepositoryIMP para herdar operações CRUD genéricas.
@@ -21,7 +20,6 @@ import java.util.List;
 public class CronogramaServiceIMP extends
         BasicRepositoryIMP<CronogramaRepository, Cronograma, Long> {
 
-
     /**
      * Construtor fará com que o Spring injete o bean de T automaticamente.
      * Ao criar uma subclasse, você deve chamar super(meuRepositórioConcreto).
@@ -73,43 +71,47 @@ public class CronogramaServiceIMP extends
         existente.setDescricao(dadosNovos.getDescricao());
         existente.setStatus(dadosNovos.getStatus());
 
-        return save(existente);
+        return carregar(save(existente), Cronograma::getPremios);
     }
 
     /**
      * Busca um Cronograma por ID ou lança ResourceNotFoundException.
      *
      * @param id ID do Cronograma.
-     * @return Cronograma encontrado.
+     * @return Cronograma encontrado, com os prêmios carregados.
      * @throws ResourceNotFoundException se não houver nenhum com esse ID.
      */
+    @Transactional(readOnly = true)
     public Cronograma buscarPorId(Long id) {
-        return findById(id)
+        return carregar(findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Cronograma não encontrado com ID: " + id)
-                );
+                ), Cronograma::getPremios);
     }
 
     /**
-     * Retorna todos os Cronogramas cadastrados.
+     * Retorna uma página de Cronogramas, ordenada por ID e paginada por cursor.
      *
-     * @return lista de Cronograma (pode vir vazia).
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de Cronograma, com os prêmios carregados (pode vir vazia).
      */
-    public List<Cronograma> listarTodos() {
-        return findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<Cronograma> listarTodos(String cursor, Integer tamanho) {
+        return carregarItens(findPage(cursor, tamanho), Cronograma::getPremios);
     }
 
     /**
-     * Deleta um Cronograma por ID.
+     * Deleta um Cronograma por ID com um único DELETE e sem carregar nada; os prêmios dele
+     * são removidos pelo banco (ON DELETE CASCADE), como o cascade da entidade.
      *
      * @param id ID do Cronograma a ser removido.
      * @throws ResourceNotFoundException se não existir Cronograma com esse ID.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        if (deleteByIdDireto(id, Premio.class) == 0) {
             throw new ResourceNotFoundException("Cronograma não encontrado com ID: " + id);
         }
-        deleteById(id);
     }
 
     /**
@@ -139,7 +141,7 @@ public class CronogramaServiceIMP extends
 
         cronograma.getPremios().add(premio);
         // Como CascadeType.ALL está configurado, basta salvar Cronograma
-        return save(cronograma);
+        return carregar(save(cronograma), Cronograma::getPremios);
     }
 
     /**
@@ -164,7 +166,7 @@ public class CronogramaServiceIMP extends
 
         // Remove da lista; orphanRemoval = true apagará o registro de Prêmio no banco
         cronograma.getPremios().remove(premioEncontrado);
-        return save(cronograma);
+        return carregar(save(cronograma), Cronograma::getPremios);
     }
 
     /**
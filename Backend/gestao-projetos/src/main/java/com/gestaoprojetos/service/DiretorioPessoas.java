@@ -0,0 +1,116 @@
+package com.gestaoprojetos.service;
+
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import com.gestaoprojetos.model.Autor;
+import com.gestaoprojetos.model.Avaliador;
+import com.gestaoprojetos.model.Pessoa;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Diretório id -> tipo concreto de Pessoa (Autor ou Avaliador).
+ * <p>
+ * Com TABLE_PER_CLASS, buscar uma Pessoa pela classe base vira um UNION de todas as
+ * tabelas filhas. Como os IDs vêm da mesma sequence (pessoa_seq), o tipo é descoberto
+ * com uma consulta que só toca a chave primária de cada tabela; depois disso a entidade
+ * é lida (ou referenciada) direto na tabela certa.
+ * <p>
+ * Os tipos já resolvidos ficam em um cache LRU limitado. IDs não são reaproveitados,
+ * então uma entrada só fica inválida quando a pessoa é removida ({@link #esquecer(Long)}).
+ */
+@Component
+@Transactional(readOnly = true)
+public class DiretorioPessoas {
+
+    /**
+     * Quantidade máxima de IDs mantidos em memória.
+     */
+    public static final int CAPACIDADE = 1_000;
+
+    private static final String CONSULTA_TIPO =
+            "SELECT 'AUTOR' FROM _autor WHERE id = :id "
+                    + "UNION ALL SELECT 'AVALIADOR' FROM _avaliador WHERE id = :id";
+
+    private final EntityManager entityManager;
+
+    private final Map<Long, Class<? extends Pessoa>> tipos =
+            new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<Long, Class<? extends Pessoa>> maisAntiga) {
+                    return size() > CAPACIDADE;
+                }
+            };
+
+    public DiretorioPessoas(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    /**
+     * Descobre o tipo concreto da Pessoa com o ID informado.
+     *
+     * @param id ID da Pessoa.
+     * @return Autor.class ou Avaliador.class; vazio se não existir Pessoa com esse ID.
+     */
+    public Optional<Class<? extends Pessoa>> tipoDe(Long id) {
+        if (id == null) {
+            return Optional.empty();
+        }
+        synchronized (tipos) {
+            Class<? extends Pessoa> tipo = tipos.get(id);
+            if (tipo != null) {
+                return Optional.of(tipo);
+            }
+        }
+
+        List<?> encontrados = entityManager.createNativeQuery(CONSULTA_TIPO)
+                .setParameter("id", id)
+                .getResultList();
+        if (encontrados.isEmpty()) {
+            return Optional.empty();
+        }
+        Class<? extends Pessoa> tipo = "AUTOR".equals(encontrados.get(0)) ? Autor.class : Avaliador.class;
+        synchronized (tipos) {
+            tipos.put(id, tipo);
+        }
+        return Optional.of(tipo);
+    }
+
+    /**
+     * Busca a Pessoa já com o tipo concreto, lendo apenas a tabela dela.
+     *
+     * @param id ID da Pessoa.
+     * @return Autor ou Avaliador; vazio se não existir.
+     */
+    public Optional<Pessoa> buscarPorId(Long id) {
+        return tipoDe(id).map(tipo -> entityManager.find(tipo, id));
+    }
+
+    /**
+     * Referência (proxy) para a Pessoa, sem carregar a linha. Serve para preencher
+     * associações como Usuario.pessoa, que só precisam da chave estrangeira.
+     *
+     * @param id ID da Pessoa.
+     * @return referência para o Autor ou Avaliador com esse ID.
+     * @throws ResourceNotFoundException se não existir Pessoa com esse ID.
+     */
+    public Pessoa referenciaPorId(Long id) {
+        Class<? extends Pessoa> tipo = tipoDe(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Pessoa não encontrada com ID: " + id));
+        return entityManager.getReference(tipo, id);
+    }
+
+    /**
+     * Remove o ID do cache (chamar ao excluir um Autor ou Avaliador).
+     */
+    public void esquecer(Long id) {
+        synchronized (tipos) {
+            tipos.remove(id);
+        }
+    }
+}
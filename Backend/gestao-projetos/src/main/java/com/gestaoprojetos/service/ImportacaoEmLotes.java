@@ -0,0 +1,132 @@
+package com.gestaoprojetos.service;
+
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ErroLinhaDTO;
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Gravação das importações CSV em lotes, cada lote na sua própria transação.
+ * <p>
+ * Os INSERTs de um lote seguem em JDBC batch (hibernate.jdbc.batch_size, IDs da sequence em
+ * bloco). Se o lote falhar no banco (ex.: valor maior que a coluna), as linhas dele são
+ * gravadas uma a uma, para que só as linhas com problema sejam rejeitadas. Ao fim de cada lote
+ * as entidades saem do contexto de persistência e não são colocadas no cache de segundo nível,
+ * então a memória usada não depende do tamanho do arquivo.
+ */
+@Slf4j
+@Component
+class ImportacaoEmLotes {
+
+    /**
+     * Linhas gravadas por transação.
+     */
+    static final int TAMANHO_LOTE = 1_000;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    ImportacaoEmLotes(PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Linha do arquivo já validada, com os dados para criar a entidade.
+     */
+    record Item<D>(long linha, D dados) {
+    }
+
+    /**
+     * Grava o lote, criando uma entidade por item dentro da transação.
+     *
+     * @param criarEntidade monta a entidade a partir dos dados (pode usar referências a outras entidades).
+     */
+    <D> void gravar(List<Item<D>> lote, Function<D, Object> criarEntidade, Relatorio relatorio) {
+        if (lote.isEmpty()) {
+            return;
+        }
+        try {
+            executar(() -> lote.forEach(item -> entityManager.persist(criarEntidade.apply(item.dados()))));
+            relatorio.criadas += lote.size();
+        } catch (RuntimeException e) {
+            log.warn("Falha ao gravar lote de {} linhas a partir da linha {}; gravando uma a uma: {}",
+                    lote.size(), lote.get(0).linha(), e.getMessage());
+            for (Item<D> item : lote) {
+                try {
+                    executar(() -> entityManager.persist(criarEntidade.apply(item.dados())));
+                    relatorio.criadas++;
+                } catch (RuntimeException erro) {
+                    relatorio.rejeitar(item.linha(), "Falha ao gravar: " + mensagem(erro));
+                }
+            }
+        }
+    }
+
+    private void executar(Runnable gravacao) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                Session session = entityManager.unwrap(Session.class);
+                CacheMode cacheModeAnterior = session.getCacheMode();
+                session.setCacheMode(CacheMode.GET);
+                try {
+                    gravacao.run();
+                    entityManager.flush();
+                } finally {
+                    session.setCacheMode(cacheModeAnterior);
+                }
+            });
+        } finally {
+            entityManager.clear();
+        }
+    }
+
+    /**
+     * Mensagem da causa raiz (normalmente a do banco), sem o SQL que vem nas linhas seguintes.
+     */
+    private static String mensagem(Throwable erro) {
+        Throwable causa = erro;
+        while (causa.getCause() != null && causa.getCause() != causa) {
+            causa = causa.getCause();
+        }
+        String mensagem = String.valueOf(causa.getMessage());
+        int fimDaLinha = mensagem.indexOf('\n');
+        return fimDaLinha < 0 ? mensagem : mensagem.substring(0, fimDaLinha);
+    }
+
+    /**
+     * Totais e erros acumulados durante uma importação.
+     */
+    static final class Relatorio {
+
+        private long recebidas;
+        private long criadas;
+        private final List<ErroLinhaDTO> erros = new ArrayList<>();
+
+        void receber() {
+            recebidas++;
+        }
+
+        void rejeitar(long linha, String erro) {
+            erros.add(new ErroLinhaDTO(linha, erro));
+        }
+
+        ResultadoImportacaoDTO toDTO() {
+            // linhas isoladas depois da falha de um lote entram fora de ordem
+            erros.sort(Comparator.comparing(ErroLinhaDTO::getLinha));
+            return new ResultadoImportacaoDTO(recebidas, criadas, (long) erros.size(), erros);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.gestaoprojetos.model.Cronograma;
 import com.gestaoprojetos.model.Premio;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
 import com.gestaoprojetos.repository.CronogramaRepository;
+import com.gestaoprojetos.repository.CursorPage;
 import com.gestaoprojetos.repository.PremioRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -106,43 +107,46 @@ public class PremioServiceIMP extends
         existente.setAnoEdicao(dadosNovos.getAnoEdicao());
 
         // 5. Persiste e retorna
-        return save(existente);
+        return carregar(save(existente), Premio::getCronograma);
     }
 
     /**
      * Busca um Prêmio por ID, ou lança ResourceNotFoundException.
      *
      * @param id ID do Prêmio.
-     * @return Premio encontrado.
+     * @return Premio encontrado, com o cronograma carregado.
      * @throws ResourceNotFoundException se não existir prêmio com esse ID.
      */
+    @Transactional(readOnly = true)
     public Premio buscarPorId(Long id) {
-        return findById(id)
+        return carregar(findById(id)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Prêmio não encontrado com ID: " + id)
-                );
+                ), Premio::getCronograma);
     }
 
     /**
-     * Retorna todos os Prêmios cadastrados.
+     * Retorna uma página de Prêmios, ordenada por ID e paginada por cursor.
      *
-     * @return lista de Premio (pode vir vazia).
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de Premio, com os cronogramas carregados (pode vir vazia).
      */
-    public List<Premio> listarTodos() {
-        return findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<Premio> listarTodos(String cursor, Integer tamanho) {
+        return carregarItens(findPage(cursor, tamanho), Premio::getCronograma);
     }
 
     /**
-     * Deleta um Prêmio por ID.
+     * Deleta um Prêmio por ID, com um único DELETE (sem consulta prévia).
      *
      * @param id ID do Prêmio a ser removido.
      * @throws ResourceNotFoundException se não existir prêmio com esse ID.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Prêmio não encontrado com ID: " + id);
         }
-        deleteById(id);
     }
 
     /**
@@ -152,12 +156,14 @@ public class PremioServiceIMP extends
      * @return lista de Premio desse Cronograma (pode ser vazia).
      * @throws ResourceNotFoundException se o Cronograma não existir.
      */
+    @Transactional(readOnly = true)
     public List<Premio> listarPorCronograma(Long cronogramaId) {
-        // Garante que o cronograma existe (pode lançar ResourceNotFoundException)
-        cronogramaRepository.findById(cronogramaId)
+        // Garante que o cronograma existe (pode lançar ResourceNotFoundException); os prêmios
+        // são serializados com ele, então a coleção já sai carregada
+        carregar(cronogramaRepository.findById(cronogramaId)
                 .orElseThrow(() ->
                         new ResourceNotFoundException("Cronograma não encontrado com ID: " + cronogramaId)
-                );
+                ), Cronograma::getPremios);
         // Busca via method name criado em PremioRepository
         return getRepository().findByCronogramaId(cronogramaId);
     }
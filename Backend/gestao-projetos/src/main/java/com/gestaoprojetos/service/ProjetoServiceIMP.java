@@ -2,23 +2,52 @@ package com.gestaoprojetos.service;
 
 import com.gestaoprojetos.controller.DTO.AutorDTO.AutorResumoDTO;
 import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoResumoDTO;
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
+import com.gestaoprojetos.controller.DTO.ProjetoDTO;
 import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoRequestDTO;
 import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoResponseDTO;
+import com.gestaoprojetos.controller.DTO.RankingDTO;
+import com.gestaoprojetos.controller.DTO.RankingDTO.ProjetoRankingDTO;
 import com.gestaoprojetos.exception.BadRequestException;
 import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Autor;
 import com.gestaoprojetos.model.Avaliacao;
 import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.repository.AutorDoProjetoView;
 import com.gestaoprojetos.repository.AutorRepository;
+import com.gestaoprojetos.repository.AvaliacaoDoProjetoView;
 import com.gestaoprojetos.repository.AvaliacaoRepository;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
+import com.gestaoprojetos.repository.CursorPage;
+import com.gestaoprojetos.repository.ProjetoRankingView;
 import com.gestaoprojetos.repository.ProjetoRepository;
+import com.gestaoprojetos.repository.ResolvedorIds;
+import com.gestaoprojetos.utils.LeitorCsv;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.Reader;
 import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Serviço para a entidade Projeto.
@@ -33,20 +62,45 @@ public class ProjetoServiceIMP extends
 
     private final AvaliacaoRepository avaliacaoRepository;
     private final AutorRepository autorRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ImportacaoEmLotes importacaoEmLotes;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * ProjetoResponseDTO das listagens montado na consulta, só com as colunas do projeto; as listas
+     * de autores e avaliações são preenchidas por {@link #comResumos(CursorPage)}.
+     */
+    private static final Projecao<Projeto, ProjetoResponseDTO> RESPOSTA = construtor(ProjetoResponseDTO.class,
+            "id", "titulo", "resumo", "dataEnvio", "areaTematica",
+            "resumoNotas.quantidadeAvaliacoes", "resumoNotas.mediaNotas");
+
+    /**
+     * Colunas do CSV de importação de projetos. A coluna autoresId traz os IDs separados por ";".
+     */
+    public static final List<String> COLUNAS_IMPORTACAO =
+            List.of("titulo", "resumo", "dataEnvio", "areaTematica", "autoresId");
 
     /**
      * Construtor: injeta ProjetoRepository, AvaliacaoRepository e AutorRepository.
      * - ProjetoRepository é passado ao super() para herdar CRUD genérico.
      * - Os repositórios auxiliares servem para validações de existência.
+     * - O TransactionTemplate abre uma transação por lote na reconstrução dos resumos.
+     * - ImportacaoEmLotes grava a importação CSV em transações por lote.
      */
     public ProjetoServiceIMP(
             ProjetoRepository projetoRepository,
             AvaliacaoRepository avaliacaoRepository,
-            AutorRepository autorRepository
+            AutorRepository autorRepository,
+            PlatformTransactionManager transactionManager,
+            ImportacaoEmLotes importacaoEmLotes
     ) {
         super(projetoRepository);
         this.avaliacaoRepository = avaliacaoRepository;
         this.autorRepository = autorRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.importacaoEmLotes = importacaoEmLotes;
     }
 
     /**
@@ -69,18 +123,13 @@ public class ProjetoServiceIMP extends
         return criarProjeto(projeto); // Chama o método antigo
     }
 
+    /**
+     * Resolve os autores informados com uma única consulta IN.
+     *
+     * @throws ResourceNotFoundException listando todos os IDs de autor inexistentes.
+     */
     private List<Autor> getAutoresByID(List<Long> autoresId) {
-        if (autoresId == null || autoresId.isEmpty()) {
-            return new ArrayList<>(); // Retorna lista vazia se não houver IDs
-        }
-
-        List<Autor> autores = new ArrayList<>();
-        for (Long id : autoresId) {
-            Autor autor = autorRepository.findById(id)
-                    .orElseThrow(() -> new ResourceNotFoundException("Autor não encontrado com ID: " + id));
-            autores.add(autor);
-        }
-        return autores;
+        return ResolvedorIds.resolver(autorRepository, autoresId, Autor::getId, "Autor");
     }
 
     // Mantém o antigo para compatibilidade interna:
@@ -90,6 +139,121 @@ public class ProjetoServiceIMP extends
         return save(projeto);
     }
 
+    /**
+     * Importa projetos de um CSV com as colunas {@link #COLUNAS_IMPORTACAO}, lido como stream.
+     * <p>
+     * Cada linha passa pelas mesmas validações de {@link #criarProjeto(ProjetoRequestDTO)}. Os autores
+     * referenciados são conferidos em conjunto, uma consulta IN por lote, e as linhas válidas são
+     * gravadas em lotes de {@link ImportacaoEmLotes#TAMANHO_LOTE}, cada lote na sua transação.
+     * Linhas inválidas não interrompem a importação: voltam no resultado com o motivo.
+     * Os lotes já gravados permanecem mesmo que a leitura falhe depois.
+     *
+     * @param csv conteúdo do arquivo.
+     * @return totais e linhas rejeitadas.
+     * @throws BadRequestException se o arquivo estiver vazio ou faltar alguma coluna.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ResultadoImportacaoDTO importarCsv(Reader csv) {
+        LeitorCsv leitor = new LeitorCsv(csv, COLUNAS_IMPORTACAO);
+        ImportacaoEmLotes.Relatorio relatorio = new ImportacaoEmLotes.Relatorio();
+        List<ImportacaoEmLotes.Item<ProjetoRequestDTO>> lote = new ArrayList<>(ImportacaoEmLotes.TAMANHO_LOTE);
+
+        for (LeitorCsv.Linha linha = leitor.proxima(); linha != null; linha = leitor.proxima()) {
+            relatorio.receber();
+            if (linha.getErro() != null) {
+                relatorio.rejeitar(linha.getNumero(), linha.getErro());
+                continue;
+            }
+            try {
+                lote.add(new ImportacaoEmLotes.Item<>(linha.getNumero(), lerLinhaImportacao(linha)));
+            } catch (BadRequestException e) {
+                relatorio.rejeitar(linha.getNumero(), e.getMessage());
+                continue;
+            }
+            if (lote.size() == ImportacaoEmLotes.TAMANHO_LOTE) {
+                gravarLoteImportacao(lote, relatorio);
+                lote.clear();
+            }
+        }
+        gravarLoteImportacao(lote, relatorio);
+        return relatorio.toDTO();
+    }
+
+    /**
+     * Converte e valida uma linha do CSV de importação.
+     *
+     * @throws BadRequestException se algum campo estiver ausente ou inválido.
+     */
+    private ProjetoRequestDTO lerLinhaImportacao(LeitorCsv.Linha linha) {
+        LocalDate dataEnvio = null;
+        String data = linha.valor("dataEnvio");
+        if (data != null) {
+            try {
+                dataEnvio = LocalDate.parse(data);
+            } catch (DateTimeParseException e) {
+                throw new BadRequestException("O campo 'dataEnvio' deve estar no formato AAAA-MM-DD: " + data);
+            }
+        }
+
+        List<Long> autoresId = new ArrayList<>();
+        String autores = linha.valor("autoresId");
+        if (autores != null) {
+            for (String id : autores.split(";")) {
+                if (id.isBlank()) {
+                    continue;
+                }
+                try {
+                    autoresId.add(Long.valueOf(id.trim()));
+                } catch (NumberFormatException e) {
+                    throw new BadRequestException("ID de autor inválido em 'autoresId': " + id.trim());
+                }
+            }
+        }
+
+        ProjetoRequestDTO dto = new ProjetoRequestDTO(linha.valor("titulo"), linha.valor("resumo"),
+                dataEnvio, linha.valor("areaTematica"), autoresId);
+        Projeto projeto = new Projeto(null, dto.getTitulo(), dto.getResumo(), dto.getDataEnvio(),
+                dto.getAreaTematica(), null, null);
+        validarCamposBasicos(projeto);
+        validarDataEnvio(projeto.getDataEnvio());
+        return dto;
+    }
+
+    /**
+     * Confere os autores do lote com uma consulta IN, rejeita as linhas com autores inexistentes
+     * e grava as demais, associando os autores por referência (sem carregá-los).
+     */
+    private void gravarLoteImportacao(List<ImportacaoEmLotes.Item<ProjetoRequestDTO>> lote,
+                                      ImportacaoEmLotes.Relatorio relatorio) {
+        Set<Long> referenciados = new LinkedHashSet<>();
+        lote.forEach(item -> referenciados.addAll(item.dados().getAutoresId()));
+        Set<Long> existentes = referenciados.isEmpty() ? Set.of() : autorRepository.findIdsExistentes(referenciados);
+
+        List<ImportacaoEmLotes.Item<ProjetoRequestDTO>> validos = new ArrayList<>(lote.size());
+        for (ImportacaoEmLotes.Item<ProjetoRequestDTO> item : lote) {
+            List<Long> ausentes = item.dados().getAutoresId().stream()
+                    .filter(id -> !existentes.contains(id))
+                    .distinct()
+                    .toList();
+            if (ausentes.isEmpty()) {
+                validos.add(item);
+            } else {
+                relatorio.rejeitar(item.linha(), "Autor não encontrado com ID(s): " + ausentes);
+            }
+        }
+
+        importacaoEmLotes.gravar(validos, dto -> new Projeto(
+                null,
+                dto.getTitulo(),
+                dto.getResumo(),
+                dto.getDataEnvio(),
+                dto.getAreaTematica(),
+                new ArrayList<>(dto.getAutoresId().stream().distinct()
+                        .map(autorRepository::getReferenceById).toList()),
+                new ArrayList<>()
+        ), relatorio);
+    }
+
     /**
      * Atualiza um Projeto existente.
      *
@@ -110,7 +274,7 @@ public class ProjetoServiceIMP extends
         // Note: não alteramos lista de avaliacoes/autores aqui; use métodos específicos abaixo
         validarCamposBasicos(existente);
         validarDataEnvio(existente.getDataEnvio());
-        return save(existente);
+        return paraResposta(save(existente));
     }
 
     /**
@@ -120,6 +284,7 @@ public class ProjetoServiceIMP extends
      * @return Projeto encontrado.
      * @throws ResourceNotFoundException se não existir projeto com esse ID.
      */
+    @Transactional(readOnly = true)
     public Projeto buscarPorId(Long id) {
         return findById(id)
                 .orElseThrow(() ->
@@ -128,56 +293,147 @@ public class ProjetoServiceIMP extends
     }
 
     /**
-     * Retorna todos os Projetos cadastrados.
+     * Busca um Projeto para exibição (autores e avaliações incluídos):
+     * os autores vêm na mesma consulta, pelo grafo de detalhe; as avaliações, em seguida.
+     *
+     * @param id ID do Projeto.
+     * @return Projeto encontrado.
+     * @throws ResourceNotFoundException se não existir projeto com esse ID.
+     */
+    @Transactional(readOnly = true)
+    public Projeto buscarDetalhePorId(Long id) {
+        return paraResposta(getRepository().findDetalheById(id)
+                .orElseThrow(() ->
+                        new ResourceNotFoundException("Projeto não encontrado com ID: " + id)
+                ));
+    }
+
+    /**
+     * Retorna uma página de Projetos, paginada por cursor (keyset).
+     * Os DTOs são montados por projeção ({@link #RESPOSTA}), com os autores e as avaliações da
+     * página em uma consulta cada.
      *
-     * @return lista de Projeto (pode vir vazia).
+     * @param cursor     cursor da página anterior (null para a primeira página).
+     * @param tamanho    quantidade de itens (null para o padrão).
+     * @param ordenarPor "id" ou "dataEnvio" (o id é usado como desempate).
+     * @param direcao    "asc" ou "desc".
+     * @return página de projetos já convertidos em DTO (pode vir vazia).
+     * @throws BadRequestException se a ordenação, a direção ou o cursor forem inválidos.
      */
-    public List<Projeto> listarTodos() {
-        return findAll();
+    @Transactional(readOnly = true)
+    public CursorPage<ProjetoResponseDTO> listarTodos(String cursor, Integer tamanho, String ordenarPor, String direcao) {
+        String[] chaves = switch (ordenarPor == null ? "id" : ordenarPor) {
+            case "id" -> new String[]{"id"};
+            case "dataEnvio" -> new String[]{"dataEnvio", "id"};
+            default -> throw new BadRequestException("Ordenação inválida: " + ordenarPor
+                    + ". Use 'id' ou 'dataEnvio'.");
+        };
+        Sort.Direction sentido = Sort.Direction.fromOptionalString(direcao == null ? "asc" : direcao)
+                .orElseThrow(() -> new BadRequestException("Direção inválida: " + direcao + ". Use 'asc' ou 'desc'."));
+        return comResumos(findPage(RESPOSTA, null, cursor, tamanho, sentido, chaves));
     }
 
     /**
-     * Deleta um Projeto por ID.
+     * Preenche os autores (AutorResumoDTO) e as avaliações (AvaliacaoResumoDTO) dos projetos da
+     * página, também por projeção: uma consulta para cada lista, sem carregar entidades.
+     */
+    private CursorPage<ProjetoResponseDTO> comResumos(CursorPage<ProjetoResponseDTO> pagina) {
+        if (pagina.isEmpty()) {
+            return pagina;
+        }
+        Map<Long, ProjetoResponseDTO> porId = pagina.getItens().stream()
+                .collect(Collectors.toMap(ProjetoResponseDTO::getId, Function.identity()));
+        for (AutorDoProjetoView autor : getRepository().findAutoresDosProjetos(porId.keySet())) {
+            porId.get(autor.getProjetoId()).getAutores()
+                    .add(new AutorResumoDTO(autor.getId(), autor.getNome()));
+        }
+        for (AvaliacaoDoProjetoView avaliacao : getRepository().findAvaliacoesDosProjetos(porId.keySet())) {
+            porId.get(avaliacao.getProjetoId()).getAvaliacoes()
+                    .add(new AvaliacaoResumoDTO(avaliacao.getId(), avaliacao.getNota(), avaliacao.getParecer()));
+        }
+        return pagina;
+    }
+
+    /**
+     * Deleta um Projeto por ID, com as associações com autores, em dois DELETEs e sem carregar
+     * nada; as avaliações são removidas pelo banco (ON DELETE CASCADE), como o cascade da entidade.
      *
      * @param id ID do Projeto a ser removido.
      * @throws ResourceNotFoundException se não existir projeto com esse ID.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Projeto não encontrado com ID: " + id);
         }
-        deleteById(id);
     }
 
     /**
      * Adiciona uma Avaliacao a este Projeto.
+     * <p>
+     * O projeto não é carregado antes: o UPDATE que soma a nota ao resumo dele também confirma
+     * que ele existe. A avaliação é gravada apontando para uma referência ao projeto, sem mexer
+     * na coleção de avaliações; o projeto devolvido é lido depois, já com o resumo atualizado.
      *
      * @param projetoId ID do Projeto que receberá a Avaliacao.
      * @param avaliacao Objeto Avaliacao (com parecer, nota, dataAvaliacao).
      * @return Projeto atualizado (com a Avaliacao adicionada).
      * @throws ResourceNotFoundException se o Projeto ou a Avaliacao não existirem.
-     * @throws BadRequestException       se o objeto Avaliacao for nulo.
+     * @throws BadRequestException       se o objeto Avaliacao for nulo ou a nota for nula ou fora de 0.0 a 10.0.
      */
     public Projeto adicionarAvaliacao(Long projetoId, Avaliacao avaliacao) {
         if (avaliacao == null) {
             throw new BadRequestException("Objeto Avaliacao não pode ser nulo.");
         }
 
-        Projeto projeto = buscarPorId(projetoId);
+        // Avaliação informada só pelo ID: usa a gravada no banco, sem sobrescrever seus campos
+        if (avaliacao.getId() != null) {
+            Long avaliacaoId = avaliacao.getId();
+            avaliacao = avaliacaoRepository.findById(avaliacaoId)
+                    .orElseThrow(() ->
+                            new ResourceNotFoundException("Avaliação não encontrada com ID: " + avaliacaoId)
+                    );
+        }
+
+        // A nota entra no resumo do projeto antes de a avaliação ser gravada
+        validarNota(avaliacao.getNota());
+
+        // Uma avaliação já gravada em outro projeto sai do resumo de notas dele
+        Long projetoAnteriorId = avaliacao.getId() != null && avaliacao.getProjeto() != null
+                ? avaliacao.getProjeto().getId()
+                : null;
 
-        // Primeiro, persiste a Avaliacao para garantir que ela tenha ID próprio
-        Avaliacao avaliacaoSalva = avaliacaoRepository.save(avaliacao);
+        // Já está neste projeto: nada muda
+        if (projetoId.equals(projetoAnteriorId)) {
+            return paraResposta(buscarPorId(projetoId));
+        }
 
-        // Inicializa a lista se estiver vazia (entidade já faz isso, mas reforçamos)
-        if (projeto.getAvaliacoes() == null) {
-            projeto.setAvaliacoes(new java.util.ArrayList<>());
+        if (getRepository().registrarNota(projetoId, avaliacao.getNota(), avaliacao.getDataAvaliacao()) == 0) {
+            throw new ResourceNotFoundException("Projeto não encontrado com ID: " + projetoId);
         }
 
-        // Associa bidirecionalmente: Avaliacao.projeto = projeto
-        avaliacaoSalva.setProjeto(projeto);
-        projeto.getAvaliacoes().add(avaliacaoSalva);
+        // Flush já aqui: a coleção de avaliações, lida depois para a resposta, não dispara flush,
+        // e o resumo do projeto anterior relê as avaliações dele
+        avaliacao.setProjeto(getRepository().getReferenceById(projetoId));
+        avaliacaoRepository.saveAndFlush(avaliacao);
 
-        return save(projeto);
+        if (projetoAnteriorId != null) {
+            getRepository().removerNota(projetoAnteriorId, avaliacao.getNota());
+        }
+        return paraResposta(buscarPorId(projetoId));
+    }
+
+    /**
+     * Mesmas regras de nota de AvaliacaoServiceIMP.validarCamposBasicos.
+     *
+     * @throws BadRequestException se a nota for nula ou estiver fora de 0.0 a 10.0.
+     */
+    private static void validarNota(Double nota) {
+        if (nota == null) {
+            throw new BadRequestException("O campo 'nota' é obrigatório.");
+        }
+        if (nota < 0.0 || nota > 10.0) {
+            throw new BadRequestException("A nota deve estar entre 0.0 e 10.0.");
+        }
     }
 
     /**
@@ -203,7 +459,28 @@ public class ProjetoServiceIMP extends
 
         projeto.getAvaliacoes().remove(encontrada);
         // Como orphanRemoval=true e Cascade.ALL, JPA apagará a linha de Avaliacao no banco
-        return save(projeto);
+        Projeto salvo = save(projeto);
+
+        getRepository().removerNota(projetoId, encontrada.getNota());
+        recarregarResumoNotas(salvo);
+        return paraResposta(salvo);
+    }
+
+    /**
+     * Carrega os autores e as avaliações usados em ProjetoResponseDTO, que é montado pelo
+     * controller depois do fim da transação.
+     */
+    private Projeto paraResposta(Projeto projeto) {
+        return carregar(projeto, Projeto::getAutores, Projeto::getAvaliacoes);
+    }
+
+    /**
+     * Copia para a entidade em memória o resumo de notas atualizado no banco,
+     * para que a resposta da API não mostre os valores anteriores ao UPDATE.
+     * As colunas do resumo não são atualizáveis pela entidade, então isso não gera SQL.
+     */
+    private void recarregarResumoNotas(Projeto projeto) {
+        projeto.setResumoNotas(getRepository().findResumoNotasById(projeto.getId()));
     }
 
     /**
@@ -233,21 +510,17 @@ public class ProjetoServiceIMP extends
             autorGerenciado = autorRepository.save(autor);
         }
 
-        // Inicializa a lista se estiver vazia
-        if (projeto.getAutores() == null) {
-            projeto.setAutores(new java.util.ArrayList<>());
-        }
-
-        // Evita duplicar: se o autor já estiver na lista, não adiciona
-        if (projeto.getAutores().stream().noneMatch(a -> a.getId().equals(autorGerenciado.getId()))) {
-            projeto.getAutores().add(autorGerenciado);
-        }
+        // Set: se o autor já estiver no projeto, nada muda; senão, um INSERT na tabela intermediária
+        projeto.getAutores().add(autorGerenciado);
 
-        return save(projeto);
+        return paraResposta(save(projeto));
     }
 
     /**
      * Remove um Autor do Projeto (por ID do Autor).
+     * <p>
+     * Um único DELETE na tabela intermediária, sem carregar a coleção de autores; só quando
+     * nenhuma linha é removida se consulta se o projeto existe, para escolher a mensagem do 404.
      *
      * @param projetoId ID do Projeto.
      * @param autorId   ID do Autor a ser removido.
@@ -255,21 +528,14 @@ public class ProjetoServiceIMP extends
      * @throws ResourceNotFoundException se Projeto ou Autor não existirem, ou se Autor não pertencer ao Projeto.
      */
     public Projeto removerAutor(Long projetoId, Long autorId) {
-        Projeto projeto = buscarPorId(projetoId);
-
-        Autor encontrado = projeto.getAutores().stream()
-                .filter(a -> a.getId().equals(autorId))
-                .findFirst()
-                .orElseThrow(() ->
-                        new ResourceNotFoundException(
-                                "Autor não encontrado com ID: " + autorId
-                                        + " para o Projeto ID: " + projetoId
-                        )
-                );
-
-        projeto.getAutores().remove(encontrado);
-        // Em uma relação ManyToMany sem orphanRemoval, apenas atualizamos a tabela intermediária
-        return save(projeto);
+        if (getRepository().removerAutor(projetoId, autorId) == 0) {
+            if (!existsById(projetoId)) {
+                throw new ResourceNotFoundException("Projeto não encontrado com ID: " + projetoId);
+            }
+            throw new ResourceNotFoundException(
+                    "Autor não encontrado com ID: " + autorId + " para o Projeto ID: " + projetoId);
+        }
+        return paraResposta(buscarPorId(projetoId));
     }
 
     /**
@@ -310,38 +576,137 @@ public class ProjetoServiceIMP extends
     }
 
     /**
-     * Retorna todos os projetos submetidos que ainda não foram avaliados,
-     * incluindo os dados dos autores.
+     * Retorna uma página dos projetos que ainda não foram avaliados (NOT EXISTS no banco),
+     * ordenada por ID. Na primeira página (sem cursor) traz também o total, contado na mesma
+     * transação a partir do resumo de notas; nas seguintes o total não é recalculado.
+     *
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de projetos sem avaliações, já convertidos em DTO como em {@link #listarTodos}.
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjetoResponseDTO> listarProjetosSemAvaliacao(String cursor, Integer tamanho) {
+        CursorPage<ProjetoResponseDTO> pagina = comResumos(
+                findPage(RESPOSTA, ProjetoRepository.semAvaliacao(), cursor, tamanho, Sort.Direction.ASC, "id"));
+        if (cursor == null) {
+            pagina.setTotal(getRepository().countSemAvaliacao());
+        }
+        return pagina;
+    }
+
+    /**
+     * Retorna uma página dos projetos que já foram avaliados (EXISTS no banco),
+     * ordenada por ID. Na primeira página (sem cursor) traz também o total, contado na mesma
+     * transação a partir do resumo de notas; nas seguintes o total não é recalculado.
      *
-     * @return lista de projetos sem avaliações.
+     * @param cursor  cursor da página anterior (null para a primeira página).
+     * @param tamanho quantidade de itens (null para o padrão).
+     * @return página de projetos com pelo menos uma avaliação, já convertidos em DTO como em {@link #listarTodos}.
      */
-    public List<Projeto> listarProjetosSemAvaliacao() {
-        return findAll().stream()
-                .filter(p -> p.getAvaliacoes() == null
-                        || p.getAvaliacoes().isEmpty())
-                .toList();
+    @Transactional(readOnly = true)
+    public CursorPage<ProjetoResponseDTO> listarProjetosComAvaliacao(String cursor, Integer tamanho) {
+        CursorPage<ProjetoResponseDTO> pagina = comResumos(
+                findPage(RESPOSTA, ProjetoRepository.comAvaliacao(), cursor, tamanho, Sort.Direction.ASC, "id"));
+        if (cursor == null) {
+            pagina.setTotal(getRepository().countComAvaliacao());
+        }
+        return pagina;
+    }
+
+    /**
+     * Apura o ranking dos projetos avaliados: média, quantidade, menor e maior nota
+     * e desvio padrão de cada projeto, lidos do resumo de notas de cada projeto
+     * (o desvio padrão vem da soma dos quadrados), sem agregar as avaliações.
+     *
+     * @param limite quantidade de projetos do topo (null para o padrão).
+     * @return as primeiras posições do ranking, já numeradas.
+     * @throws BadRequestException se o limite for menor que 1.
+     */
+    @Transactional(readOnly = true)
+    public List<ProjetoRankingDTO> apurarRanking(Integer limite) {
+        List<ProjetoRankingView> linhas = getRepository()
+                .findRanking(Limit.of(CursorPage.normalizarTamanho(limite)));
+
+        List<ProjetoRankingDTO> ranking = new ArrayList<>(linhas.size());
+        for (int i = 0; i < linhas.size(); i++) {
+            ranking.add(RankingDTO.toProjetoRankingDTO(i + 1, linhas.get(i)));
+        }
+        return ranking;
     }
 
     /**
-     * Retorna todos os projetos submetidos que já foram avaliados,
-     * incluindo os dados dos autores.
+     * Lista os projetos vencedores na ordem da apuração (ver {@link #apurarRanking(Integer)}),
+     * lendo o resumo de notas já gravado em cada projeto em vez de agregar as avaliações.
+     * Cada projeto aparece uma única vez; retorna todos os dados do projeto.
      *
-     * @return lista de projetos com pelo menos uma avaliação.
+     * @param limite quantidade de projetos do topo (null para o padrão).
      */
-    public List<Projeto> listarProjetosComAvaliacao() {
-        return findAll().stream()
-                .filter(p -> p.getAvaliacoes() != null
-                        && !p.getAvaliacoes().isEmpty())
-                .toList();
+    @Transactional(readOnly = true)
+    public List<Projeto> listarProjetosVencedores(Integer limite) {
+        List<Projeto> vencedores = getRepository().findVencedores(Limit.of(CursorPage.normalizarTamanho(limite)));
+        vencedores.forEach(this::paraResposta);
+        return vencedores;
     }
 
     /**
-     * Lista projetos vencedores em ordem decrescente de nota.
-     * Considera o projeto vencedor aquele que possui pelo menos uma avaliação.
-     * Retorna todos os dados do projeto.
+     * Reconstrói o resumo de notas de todos os projetos a partir das avaliações,
+     * em lotes por faixa de ID, cada lote na sua própria transação.
+     * Serve para corrigir divergências (cargas manuais, falhas antigas etc.).
+     *
+     * @param lote quantidade de projetos por lote (null para o padrão).
+     * @return quantidade de projetos recalculados.
+     * @throws BadRequestException se o lote for menor que 1.
      */
-    public List<Projeto> listarProjetosVencedoresPorNotaDesc() {
-        return getRepository().findProjetosVencedoresOrderByNotaDesc();
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long recalcularResumos(Integer lote) {
+        Limit limite = Limit.of(CursorPage.normalizarTamanho(lote));
+        long total = 0;
+        Long ultimoId = 0L;
+        while (true) {
+            List<Long> ids = getRepository().findIdsApos(ultimoId, limite);
+            if (ids.isEmpty()) {
+                return total;
+            }
+            Long deId = ultimoId;
+            Long ateId = ids.get(ids.size() - 1);
+            total += transactionTemplate.execute(status -> getRepository().recalcularResumos(deId, ateId));
+            ultimoId = ateId;
+        }
+    }
+
+    /**
+     * Exporta todos os projetos, com autores e avaliações, em ordem de ID.
+     * <p>
+     * Os projetos vêm de um cursor do banco e são entregues ao destino em lotes de
+     * {@link CursorPage#TAMANHO_MAXIMO}: as coleções do lote são carregadas em lote (@BatchSize)
+     * e, depois de entregue, o lote sai do contexto de persistência. Assim a memória usada não
+     * depende da quantidade de projetos. As leituras não populam o cache de segundo nível.
+     *
+     * @param destino recebe cada projeto convertido, na ordem.
+     * @return quantidade de projetos exportados.
+     */
+    @Transactional(readOnly = true)
+    public long exportar(Consumer<ProjetoResponseDTO> destino) {
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode cacheModeAnterior = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        long total = 0;
+        try (Stream<Projeto> projetos = getRepository().streamParaExportacao()) {
+            List<Projeto> lote = new ArrayList<>(CursorPage.TAMANHO_MAXIMO);
+            Iterator<Projeto> iterator = projetos.iterator();
+            while (iterator.hasNext()) {
+                lote.add(iterator.next());
+                if (lote.size() == CursorPage.TAMANHO_MAXIMO || !iterator.hasNext()) {
+                    lote.forEach(projeto -> destino.accept(ProjetoDTO.toProjetoResponseDTO(projeto)));
+                    total += lote.size();
+                    lote.clear();
+                    entityManager.clear();
+                }
+            }
+        } finally {
+            session.setCacheMode(cacheModeAnterior);
+        }
+        return total;
     }
 
     public static ProjetoResponseDTO toProjetoResponseDTO(Projeto projeto) {
@@ -360,7 +725,9 @@ public class ProjetoServiceIMP extends
                 projeto.getDataEnvio(),
                 projeto.getAreaTematica(),
                 autores,
-                avaliacoes
+                avaliacoes,
+                projeto.getResumoNotas() != null ? projeto.getResumoNotas().getQuantidadeAvaliacoes() : 0L,
+                projeto.getResumoNotas() != null ? projeto.getResumoNotas().getMediaNotas() : null
         );
     }
 }
@@ -0,0 +1,197 @@
+package com.gestaoprojetos.service;
+
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import com.gestaoprojetos.model.Status;
+import com.gestaoprojetos.repository.StatusRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.proxy.LazyInitializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Registro em memória da tabela de referência _status (poucas linhas, praticamente estática).
+ * <p>
+ * Carregado uma vez na inicialização; consultas por ID não fazem I/O. Só muda quando o
+ * {@link StatusServiceIMP} cria, atualiza ou remove um Status, e nesse caso a alteração é
+ * aplicada depois do commit. Cada versão do registro é um snapshot imutável com um ETag forte
+ * calculado sobre o conteúdo, usado pelo GET /status.
+ * <p>
+ * Alterações feitas por outras instâncias da aplicação só aparecem aqui após reiniciar.
+ */
+@Slf4j
+@Component
+public class RegistroStatus {
+
+    private final StatusRepository statusRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Snapshot snapshot = Snapshot.de(Map.of());
+
+    public RegistroStatus(StatusRepository statusRepository, PlatformTransactionManager transactionManager) {
+        this.statusRepository = statusRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Carrega todos os Status do banco.
+     * <p>
+     * Leitura sem limite de propósito: _status é uma tabela de referência com poucas linhas, lida
+     * inteira só na inicialização; as requisições são atendidas pelo snapshot em memória.
+     * <p>
+     * Em transação de escrita de propósito: com réplica configurada, as somente leitura vão a
+     * ela, e o registro vale até reiniciar, então não pode nascer com o atraso da réplica.
+     */
+    @PostConstruct
+    public void recarregar() {
+        snapshot = Snapshot.de(transactionTemplate.execute(status -> statusRepository.findAll()).stream()
+                .collect(Collectors.toMap(Status::getId, Status::getDescription)));
+        log.info("Registro de Status carregado: {} itens", snapshot.descricoes().size());
+    }
+
+    /**
+     * Busca um Status pelo ID, sem consulta ao banco.
+     *
+     * @return cópia desanexada do Status.
+     * @throws ResourceNotFoundException se não existir.
+     */
+    public Status buscar(Long id) {
+        String descricao = snapshot.descricoes().get(id);
+        if (descricao == null) {
+            throw new ResourceNotFoundException("Status não encontrado com ID: " + id);
+        }
+        return new Status(id, descricao);
+    }
+
+    /**
+     * Referência ao Status para usar em associações (ex.: Avaliacao.status) sem consultar o banco.
+     * <p>
+     * É um proxy do contexto de persistência atual já preenchido com os dados do registro:
+     * não dispara o SELECT que o Hibernate faria para uma instância desanexada (ID atribuído)
+     * nem o da inicialização lazy ao ler a descrição.
+     *
+     * @throws ResourceNotFoundException se não existir.
+     */
+    public Status referencia(Long id) {
+        Status status = buscar(id);
+        Status referencia = entityManager.getReference(Status.class, id);
+        if (referencia instanceof HibernateProxy proxy) {
+            LazyInitializer inicializador = proxy.getHibernateLazyInitializer();
+            if (inicializador.isUninitialized()) {
+                inicializador.setImplementation(status);
+            }
+        }
+        return referencia;
+    }
+
+    /**
+     * Todos os Status, ordenados por ID (cópias desanexadas).
+     */
+    public List<Status> listar() {
+        return snapshot.ordenados().stream()
+                .map(entrada -> new Status(entrada.getKey(), entrada.getValue()))
+                .toList();
+    }
+
+    /**
+     * Dos IDs informados, retorna os que existem.
+     */
+    public Set<Long> idsExistentes(Collection<Long> ids) {
+        Map<Long, String> descricoes = snapshot.descricoes();
+        return ids.stream().filter(descricoes::containsKey).collect(Collectors.toSet());
+    }
+
+    /**
+     * ETag forte da versão atual da lista (já entre aspas).
+     */
+    public String getEtag() {
+        return snapshot.etag();
+    }
+
+    /**
+     * Aplica a criação/alteração ao registro quando a transação atual fizer commit.
+     */
+    void aoSalvar(Status status) {
+        Long id = status.getId();
+        String descricao = status.getDescription();
+        depoisDoCommit(() -> alterar(descricoes -> descricoes.put(id, descricao)));
+    }
+
+    /**
+     * Aplica a remoção ao registro quando a transação atual fizer commit.
+     */
+    void aoRemover(Long id) {
+        depoisDoCommit(() -> alterar(descricoes -> descricoes.remove(id)));
+    }
+
+    private synchronized void alterar(Consumer<Map<Long, String>> alteracao) {
+        Map<Long, String> descricoes = new HashMap<>(snapshot.descricoes());
+        alteracao.accept(descricoes);
+        snapshot = Snapshot.de(descricoes);
+    }
+
+    private static void depoisDoCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
+    }
+
+    /**
+     * Versão imutável do registro.
+     */
+    private record Snapshot(Map<Long, String> descricoes, List<Map.Entry<Long, String>> ordenados, String etag) {
+
+        static Snapshot de(Map<Long, String> descricoes) {
+            List<Map.Entry<Long, String>> ordenados = ordenar(descricoes);
+            return new Snapshot(Map.copyOf(descricoes), ordenados, calcularEtag(ordenados));
+        }
+
+        private static List<Map.Entry<Long, String>> ordenar(Map<Long, String> descricoes) {
+            return descricoes.entrySet().stream()
+                    .sorted(Map.Entry.comparingByKey())
+                    .map(entrada -> Map.entry(entrada.getKey(), entrada.getValue()))
+                    .toList();
+        }
+
+        private static String calcularEtag(List<Map.Entry<Long, String>> ordenados) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (Map.Entry<Long, String> entrada : ordenados) {
+                    digest.update((entrada.getKey() + "\t" + entrada.getValue() + "\n")
+                            .getBytes(StandardCharsets.UTF_8));
+                }
+                return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest.digest()) + "\"";
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 indisponível", e);
+            }
+        }
+    }
+}
@@ -7,6 +7,7 @@ import com.gestaoprojetos.model.Status;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
 import com.gestaoprojetos.repository.StatusRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -17,17 +18,22 @@ import java.util.stream.Collectors;
  * Serviço para a entidade Status.
  * Estende BasicRepositoryIMP para herdar operações genéricas de CRUD.
  * Adiciona validações específicas para Status (por ex., garantir que o ID não esteja em uso).
+ * As leituras vêm do {@link RegistroStatus} (em memória) e por isso não abrem transação
+ * própria (SUPPORTS); as alterações são repassadas a ele.
  */
 @Service
 @Transactional
 public class StatusServiceIMP
         extends BasicRepositoryIMP<StatusRepository, Status, Long> {
 
+    private final RegistroStatus registroStatus;
+
     /**
      * Construtor: injetamos StatusRepository e passamos ao super().
      */
-    public StatusServiceIMP(StatusRepository repository) {
+    public StatusServiceIMP(StatusRepository repository, RegistroStatus registroStatus) {
         super(repository);
+        this.registroStatus = registroStatus;
     }
 
     /**
@@ -49,7 +55,9 @@ public class StatusServiceIMP
             throw new BadRequestException("Já existe um Status com ID: " + id);
         }
 
-        return save(status);
+        Status salvo = save(status);
+        registroStatus.aoSalvar(salvo);
+        return salvo;
     }
 
     /**
@@ -73,43 +81,44 @@ public class StatusServiceIMP
         }
 
         existente.setDescription(dadosNovos.getDescription());
-        return save(existente);
+        Status salvo = save(existente);
+        registroStatus.aoSalvar(salvo);
+        return salvo;
     }
 
     /**
-     * Busca um Status por ID ou lança ResourceNotFoundException.
+     * Busca um Status por ID (do registro em memória) ou lança ResourceNotFoundException.
      *
      * @param id ID do Status.
      * @return Status encontrado.
      * @throws ResourceNotFoundException se não existir.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public Status buscarPorId(Long id) {
-        return findById(id)
-                .orElseThrow(() ->
-                        new ResourceNotFoundException("Status não encontrado com ID: " + id)
-                );
+        return registroStatus.buscar(id);
     }
 
     /**
-     * Retorna todos os status cadastrados.
+     * Retorna todos os status cadastrados (do registro em memória), ordenados por ID.
      *
      * @return lista de Status (pode vir vazia).
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Status> listarTodos() {
-        return findAll();
+        return registroStatus.listar();
     }
 
     /**
-     * Deleta um Status por ID.
+     * Deleta um Status por ID, com um único DELETE (sem consulta prévia).
      *
      * @param id ID do Status a ser removido.
      * @throws ResourceNotFoundException se não existir.
      */
     public void deletarPorId(Long id) {
-        if (!existsById(id)) {
+        if (deleteByIdDireto(id) == 0) {
             throw new ResourceNotFoundException("Status não encontrado com ID: " + id);
         }
-        deleteById(id);
+        registroStatus.aoRemover(id);
     }
 
     /**
@@ -118,6 +127,7 @@ public class StatusServiceIMP
      *
      * @return lista de Status vindo do enum Values.
      */
+    @Transactional(propagation = Propagation.SUPPORTS, readOnly = true)
     public List<Status> listarPredefinidos() {
         return
                 java.util.Arrays.stream(Status.Values.values())
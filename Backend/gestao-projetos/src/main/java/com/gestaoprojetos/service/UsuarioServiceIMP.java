@@ -5,9 +5,12 @@ import com.gestaoprojetos.exception.ResourceNotFoundException;
 import com.gestaoprojetos.model.Usuario;
 import com.gestaoprojetos.repository.BasicRepositoryIMP;
 import com.gestaoprojetos.repository.UsuarioRepository;
+import com.gestaoprojetos.security.VersoesToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @Transactional
@@ -15,32 +18,47 @@ public class UsuarioServiceIMP
         extends BasicRepositoryIMP<UsuarioRepository, Usuario, Long> {
 
     private final PasswordEncoder passwordEncoder;
+    private final DiretorioPessoas diretorioPessoas;
+    private final VersoesToken versoesToken;
 
     public UsuarioServiceIMP(
             UsuarioRepository repository,
-            PasswordEncoder passwordEncoder
+            PasswordEncoder passwordEncoder,
+            DiretorioPessoas diretorioPessoas,
+            VersoesToken versoesToken
     ) {
         super(repository);
         this.passwordEncoder = passwordEncoder;
+        this.diretorioPessoas = diretorioPessoas;
+        this.versoesToken = versoesToken;
     }
 
     /**
      * Registra um novo usuário no sistema.
      * Valida o usuário e verifica se já existe um usuário com o mesmo username e pessoa.
      * Se não existir, cria um novo usuário com a senha criptografada.
+     * A pessoa é informada só pelo ID e resolvida uma vez, aqui, pelo {@link DiretorioPessoas}.
      *
-     * @param usuario O usuário a ser registrado
+     * @param usuario  O usuário a ser registrado (username e senha)
+     * @param pessoaId O ID da Pessoa (Autor ou Avaliador) a que o usuário pertence
      * @return O usuário registrado
+     * @throws BadRequestException se faltar algum dado, se não existir Pessoa com o ID informado
+     *                             ou se o usuário já existir
      */
-    public Usuario registrarUsuario(Usuario usuario) {
-        validaUser(usuario);
+    public Usuario registrarUsuario(Usuario usuario, Long pessoaId) {
+        validaUser(usuario, pessoaId);
+        try {
+            usuario.setPessoa(diretorioPessoas.referenciaPorId(pessoaId));
+        } catch (ResourceNotFoundException e) {
+            throw new BadRequestException(e.getMessage());
+        }
 
         if (validaExistencia(usuario)) {
             throw new BadRequestException("Usuario já existe: " + usuario.getUsername());
         }
         String senhaHash = passwordEncoder.encode(usuario.getPassword().trim());
         usuario.setPassword(senhaHash);
-        return save(usuario);
+        return carregar(save(usuario), Usuario::getPessoa);
     }
 
     /**
@@ -49,6 +67,7 @@ public class UsuarioServiceIMP
      * @param usuario O usuário a ser verificado
      * @return true se já existir, false caso contrário
      */
+    @Transactional(readOnly = true)
     public Usuario buscarPorUsername(Usuario usuario) {
         String username = usuario.getUsername().trim();
         return getRepository()
@@ -63,12 +82,82 @@ public class UsuarioServiceIMP
      * Se não encontrar, lança uma ResourceNotFoundException.
      *
      * @param id O ID do usuário a ser buscado
-     * @return O usuário encontrado
+     * @return O usuário encontrado, com a pessoa carregada
      */
+    @Transactional(readOnly = true)
     public Usuario buscarPorId(Long id) throws ResourceNotFoundException {
-        return getRepository()
+        return carregar(getRepository()
                 .findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id));
+                .orElseThrow(() -> new ResourceNotFoundException("Usuário não encontrado com ID: " + id)),
+                Usuario::getPessoa);
+    }
+
+    /**
+     * Troca a senha do usuário e revoga todos os tokens emitidos até agora.
+     * A permissão de quem chama é conferida no controller; aqui se confere a senha atual.
+     *
+     * @param id         O ID do usuário
+     * @param senhaAtual A senha atual (em texto puro), conferida contra o hash gravado
+     * @param novaSenha  A nova senha (em texto puro; será gravada como hash)
+     * @throws ResourceNotFoundException se o usuário não existir
+     * @throws BadRequestException       se alguma das senhas estiver vazia ou a senha atual não conferir
+     */
+    public void alterarSenha(Long id, String senhaAtual, String novaSenha) {
+        if (senhaAtual == null || senhaAtual.trim().isEmpty()) {
+            throw new BadRequestException("A senha atual é obrigatória.");
+        }
+        if (novaSenha == null || novaSenha.trim().isEmpty()) {
+            throw new BadRequestException("A senha é obrigatória e não pode ficar vazia.");
+        }
+        Usuario usuario = buscarPorId(id);
+        if (!passwordEncoder.matches(senhaAtual.trim(), usuario.getPassword())) {
+            throw new BadRequestException("A senha atual não confere.");
+        }
+        usuario.setPassword(passwordEncoder.encode(novaSenha.trim()));
+        save(usuario);
+        revogarTokens(id);
+    }
+
+    /**
+     * Grava o novo hash de uma senha que já foi verificada (rehash com o custo atual do BCrypt).
+     * A senha continua a mesma, por isso os tokens já emitidos seguem válidos.
+     *
+     * @param id   O ID do usuário
+     * @param hash O novo hash, já no formato do PasswordEncoder
+     * @throws ResourceNotFoundException se o usuário não existir
+     */
+    public void atualizarHashSenha(Long id, String hash) {
+        if (getRepository().atualizarHashSenha(id, hash) == 0) {
+            throw new ResourceNotFoundException("Usuário não encontrado com ID: " + id);
+        }
+    }
+
+    /**
+     * Revoga todos os tokens do usuário incrementando a versão gravada neles.
+     * O cache de versões só recebe a nova versão depois do commit.
+     *
+     * @param id O ID do usuário
+     * @throws ResourceNotFoundException se o usuário não existir
+     */
+    public void revogarTokens(Long id) {
+        if (getRepository().incrementarTokenVersao(id) == 0) {
+            throw new ResourceNotFoundException("Usuário não encontrado com ID: " + id);
+        }
+        getRepository().findTokenVersaoById(id)
+                .ifPresent(versao -> depoisDoCommit(() -> versoesToken.atualizar(id, versao)));
+    }
+
+    private static void depoisDoCommit(Runnable acao) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            acao.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                acao.run();
+            }
+        });
     }
 
     /**
@@ -93,14 +182,14 @@ public class UsuarioServiceIMP
      *
      * @param usuario O usuário a ser validado
      */
-    private static void validaUser(Usuario usuario) {
+    private static void validaUser(Usuario usuario, Long pessoaId) {
         if (usuario.getUsername() == null || usuario.getUsername().trim().isEmpty()) {
             throw new BadRequestException("O username é obrigatório e não pode ficar vazio.");
         }
         if (usuario.getPassword() == null || usuario.getPassword().trim().isEmpty()) {
             throw new BadRequestException("A senha é obrigatória e não pode ficar vazia.");
         }
-        if (usuario.getPessoa() == null || usuario.getPessoa().getId() == null) {
+        if (pessoaId == null) {
             throw new BadRequestException("O Usuario deve estar associado a uma Pessoa já existente.");
         }
     }
@@ -0,0 +1,127 @@
+package com.gestaoprojetos.utils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gestaoprojetos.controller.DTO.AutorDTO.AutorResumoDTO;
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO.AvaliacaoResumoDTO;
+import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoResponseDTO;
+import com.gestaoprojetos.exception.BadRequestException;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Formatos da exportação de projetos (GET /api/projetos/export).
+ * Cada projeto é escrito assim que chega, sem montar a lista inteira em memória.
+ */
+public final class ExportacaoProjetos {
+
+    private ExportacaoProjetos() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    public enum Formato {
+        /**
+         * Um ProjetoResponseDTO em JSON por linha.
+         */
+        NDJSON("application/x-ndjson", "ndjson"),
+        /**
+         * Uma linha por projeto; autores e notas das avaliações separados por "; " na mesma coluna.
+         */
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extensao;
+
+        Formato(String contentType, String extensao) {
+            this.contentType = contentType;
+            this.extensao = extensao;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getNomeArquivo() {
+            return "projetos." + extensao;
+        }
+
+        /**
+         * @throws BadRequestException se o formato não for "ndjson" nem "csv".
+         */
+        public static Formato de(String formato) {
+            try {
+                return valueOf(formato.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException | NullPointerException e) {
+                throw new BadRequestException("Formato inválido: " + formato + ". Use 'ndjson' ou 'csv'.");
+            }
+        }
+    }
+
+    /**
+     * Escritor do formato informado. Se for CSV, o cabeçalho já é escrito aqui.
+     * Erros de escrita (ex.: cliente desconectado) saem como {@link UncheckedIOException}.
+     */
+    public static Consumer<ProjetoResponseDTO> escritor(Formato formato, Writer saida, ObjectMapper objectMapper) {
+        if (formato == Formato.NDJSON) {
+            return projeto -> escrever(saida, json(objectMapper, projeto) + "\n");
+        }
+        escrever(saida, "id,titulo,resumo,dataEnvio,areaTematica,autores,quantidadeAvaliacoes,mediaNotas,notas\r\n");
+        return projeto -> escrever(saida, linhaCsv(projeto));
+    }
+
+    private static String linhaCsv(ProjetoResponseDTO projeto) {
+        String autores = projeto.getAutores().stream()
+                .map(AutorResumoDTO::getNome)
+                .collect(Collectors.joining("; "));
+        String notas = projeto.getAvaliacoes().stream()
+                .map(AvaliacaoResumoDTO::getNota)
+                .map(String::valueOf)
+                .collect(Collectors.joining("; "));
+        return String.join(",",
+                String.valueOf(projeto.getId()),
+                campoCsv(projeto.getTitulo()),
+                campoCsv(projeto.getResumo()),
+                String.valueOf(projeto.getDataEnvio()),
+                campoCsv(projeto.getAreaTematica()),
+                campoCsv(autores),
+                String.valueOf(projeto.getQuantidadeAvaliacoes()),
+                projeto.getMediaNotas() != null ? String.valueOf(projeto.getMediaNotas()) : "",
+                campoCsv(notas)
+        ) + "\r\n";
+    }
+
+    /**
+     * Campo CSV (RFC 4180): entre aspas, com aspas duplicadas, quando contém separador,
+     * aspas ou quebra de linha.
+     */
+    private static String campoCsv(String valor) {
+        if (valor == null) {
+            return "";
+        }
+        if (valor.indexOf(',') < 0 && valor.indexOf('"') < 0 && valor.indexOf('\n') < 0 && valor.indexOf('\r') < 0) {
+            return valor;
+        }
+        return "\"" + valor.replace("\"", "\"\"") + "\"";
+    }
+
+    private static String json(ObjectMapper objectMapper, ProjetoResponseDTO projeto) {
+        try {
+            return objectMapper.writeValueAsString(projeto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Falha ao converter o projeto " + projeto.getId() + " para JSON.", e);
+        }
+    }
+
+    private static void escrever(Writer saida, String texto) {
+        try {
+            saida.write(texto);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.gestaoprojetos.utils;
+
+import com.gestaoprojetos.exception.BadRequestException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lê um CSV (RFC 4180: separador vírgula, campos entre aspas podem conter vírgulas, aspas
+ * duplicadas e quebras de linha) um registro por vez, sem carregar o arquivo em memória.
+ * <p>
+ * A primeira linha é o cabeçalho; as colunas são encontradas pelo nome, em qualquer ordem.
+ * Linhas em branco são ignoradas.
+ */
+public class LeitorCsv {
+
+    /**
+     * Tamanho máximo de um registro; acima disso (normalmente aspas não fechadas) a leitura para.
+     */
+    public static final int TAMANHO_MAXIMO_REGISTRO = 64 * 1024;
+
+    private final Reader reader;
+    private final Map<String, Integer> indices = new HashMap<>();
+    private int quantidadeColunas;
+    private long linhaAtual = 1;
+    private int pendente = -2;
+    private boolean encerrado;
+
+    /**
+     * Lê o cabeçalho e confere as colunas.
+     *
+     * @throws BadRequestException se o arquivo estiver vazio ou faltar alguma coluna obrigatória.
+     */
+    public LeitorCsv(Reader reader, List<String> colunasObrigatorias) {
+        this.reader = reader instanceof BufferedReader ? reader : new BufferedReader(reader);
+        Linha cabecalho = proxima();
+        if (cabecalho == null) {
+            throw new BadRequestException("O arquivo CSV está vazio.");
+        }
+        if (cabecalho.erro != null) {
+            throw new BadRequestException("Cabeçalho do CSV inválido: " + cabecalho.erro);
+        }
+        quantidadeColunas = cabecalho.campos.size();
+        for (int i = 0; i < cabecalho.campos.size(); i++) {
+            String nome = cabecalho.campos.get(i).trim();
+            // BOM gravado por planilhas no início do arquivo
+            indices.putIfAbsent(i == 0 ? nome.replace("\uFEFF", "") : nome, i);
+        }
+        List<String> ausentes = colunasObrigatorias.stream()
+                .filter(coluna -> !indices.containsKey(coluna))
+                .toList();
+        if (!ausentes.isEmpty()) {
+            throw new BadRequestException("Colunas obrigatórias ausentes no CSV: " + ausentes
+                    + ". Cabeçalho esperado: " + String.join(",", colunasObrigatorias));
+        }
+    }
+
+    /**
+     * Próximo registro, ou null no fim do arquivo.
+     * Registros com número de colunas diferente do cabeçalho voltam com {@link Linha#getErro()}.
+     */
+    public Linha proxima() {
+        try {
+            while (!encerrado) {
+                Linha linha = lerRegistro();
+                if (linha == null) {
+                    return null;
+                }
+                if (linha.erro == null && linha.campos.size() == 1 && linha.campos.get(0).isBlank()) {
+                    continue;
+                }
+                if (linha.erro == null && quantidadeColunas > 0 && linha.campos.size() != quantidadeColunas) {
+                    linha.erro = "A linha tem " + linha.campos.size() + " colunas; o cabeçalho tem "
+                            + quantidadeColunas + ".";
+                }
+                return linha;
+            }
+            return null;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Linha lerRegistro() throws IOException {
+        int c = ler();
+        if (c == -1) {
+            return null;
+        }
+        long inicio = linhaAtual;
+        List<String> campos = new ArrayList<>();
+        StringBuilder campo = new StringBuilder();
+        int tamanho = 0;
+        boolean entreAspas = false;
+        while (true) {
+            if (++tamanho > TAMANHO_MAXIMO_REGISTRO) {
+                encerrado = true;
+                return new Linha(inicio, campos, "Registro maior que " + TAMANHO_MAXIMO_REGISTRO
+                        + " caracteres (aspas não fechadas?); o restante do arquivo foi ignorado.", indices);
+            }
+            if (c == -1) {
+                if (entreAspas) {
+                    encerrado = true;
+                    return new Linha(inicio, campos, "Aspas não fechadas até o fim do arquivo.", indices);
+                }
+                campos.add(campo.toString());
+                return new Linha(inicio, campos, null, indices);
+            }
+            if (entreAspas) {
+                if (c == '"') {
+                    int seguinte = ler();
+                    if (seguinte != '"') {
+                        entreAspas = false;
+                        c = seguinte;
+                        continue;
+                    }
+                }
+                if (c == '\n') {
+                    linhaAtual++;
+                }
+                campo.append((char) c);
+            } else if (c == '"' && campo.isEmpty()) {
+                entreAspas = true;
+            } else if (c == ',') {
+                campos.add(campo.toString());
+                campo.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r') {
+                    int seguinte = ler();
+                    if (seguinte != '\n') {
+                        pendente = seguinte;
+                    }
+                }
+                linhaAtual++;
+                campos.add(campo.toString());
+                return new Linha(inicio, campos, null, indices);
+            } else {
+                campo.append((char) c);
+            }
+            c = ler();
+        }
+    }
+
+    private int ler() throws IOException {
+        if (pendente != -2) {
+            int c = pendente;
+            pendente = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    /**
+     * Um registro do CSV.
+     */
+    public static final class Linha {
+
+        private final long numero;
+        private final List<String> campos;
+        private final Map<String, Integer> indices;
+        private String erro;
+
+        private Linha(long numero, List<String> campos, String erro, Map<String, Integer> indices) {
+            this.numero = numero;
+            this.campos = campos;
+            this.erro = erro;
+            this.indices = indices;
+        }
+
+        /**
+         * Linha do arquivo em que o registro começa (o cabeçalho é a linha 1).
+         */
+        public long getNumero() {
+            return numero;
+        }
+
+        /**
+         * Motivo de o registro não poder ser lido, ou null.
+         */
+        public String getErro() {
+            return erro;
+        }
+
+        /**
+         * Valor da coluna sem espaços nas pontas; null se vazio.
+         */
+        public String valor(String coluna) {
+            Integer indice = indices.get(coluna);
+            if (indice == null || indice >= campos.size()) {
+                return null;
+            }
+            String valor = campos.get(indice).trim();
+            return valor.isEmpty() ? null : valor;
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.gestaoprojetos.utils;
+
+import com.gestaoprojetos.repository.CursorPage;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Monta as respostas HTTP das listagens paginadas por cursor.
+ * O corpo continua sendo uma lista JSON (compatível com o front-end);
+ * o cursor da próxima página segue nos cabeçalhos X-Next-Cursor e Link (rel="next").
+ */
+public final class Paginacao {
+
+    public static final String HEADER_PROXIMO_CURSOR = "X-Next-Cursor";
+    public static final String HEADER_TOTAL = "X-Total-Count";
+
+    private Paginacao() {
+        throw new UnsupportedOperationException("Esta é uma classe utilitária e não deve ser instanciada");
+    }
+
+    /**
+     * Converte a página em ResponseEntity: 204 se vazia, 200 com os itens caso contrário.
+     * O total, quando a página o traz, segue no cabeçalho X-Total-Count.
+     */
+    public static <T> ResponseEntity<List<T>> resposta(CursorPage<T> pagina) {
+        if (pagina.isEmpty()) {
+            return ResponseEntity.noContent().build();
+        }
+
+        ResponseEntity.BodyBuilder resposta = ResponseEntity.ok();
+        if (pagina.getTotal() != null) {
+            resposta.header(HEADER_TOTAL, String.valueOf(pagina.getTotal()));
+        }
+        if (pagina.hasNext()) {
+            String proxima = ServletUriComponentsBuilder.fromCurrentRequest()
+                    .replaceQueryParam("cursor", pagina.getNextCursor())
+                    .toUriString();
+            resposta.header(HEADER_PROXIMO_CURSOR, pagina.getNextCursor());
+            resposta.header(HttpHeaders.LINK, "<" + proxima + ">; rel=\"next\"");
+        }
+        return resposta.body(pagina.getItens());
+    }
+}
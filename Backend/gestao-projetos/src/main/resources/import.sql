@@ -27,8 +27,9 @@ INSERT INTO _premio (id, nome, descricao, ano_edicao, cronograma_id) VALUES (3,
 
 
 -- PROJETO: submetido por Autor (João Silva)
-INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica) VALUES (1, 'Projeto Exemplo A', 'Resumo de exemplo A', '2025-06-02', 'Tecnologia');
-INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica) VALUES (2, 'Projeto Exemplo B', 'Resumo de exemplo B', '2025-06-05', 'Educação');
+-- O resumo de notas (soma, quantidade, média, maior nota, última data) já reflete as avaliações abaixo
+INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, soma_notas, quantidade_avaliacoes, media_notas, nota_maxima, nota_minima, soma_quadrados, data_ultima_avaliacao) VALUES (1, 'Projeto Exemplo A', 'Resumo de exemplo A', '2025-06-02', 'Tecnologia', 8.0, 1, 8.0, 8.0, 8.0, 64.0, '2025-06-10');
+INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, soma_notas, quantidade_avaliacoes, media_notas, nota_maxima, nota_minima, soma_quadrados, data_ultima_avaliacao) VALUES (2, 'Projeto Exemplo B', 'Resumo de exemplo B', '2025-06-05', 'Educação', 0.0, 1, 0.0, 0.0, 0.0, 0.0, '2025-06-11');
 
 
 -- Associação ManyToMany entre Projeto e Autor (tabela _projeto_autor)
@@ -46,21 +47,22 @@ INSERT INTO _avaliacao (id, parecer, nota, data_avaliacao, avaliador_id, status_
 
 -- USUARIOS: para autenticação (hash da senha “senha123” gerado via BCrypt)
 -- João Silva (Pessoa id=1) ganha login “joao”
-INSERT INTO _usuario (id, username, password, pessoa_id) VALUES (1, 'joao', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 1);
+INSERT INTO _usuario (id, username, password, pessoa_id, token_versao) VALUES (1, 'joao', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 1, 0);
 
 -- Maria Souza (Pessoa id=2) ganha login “maria”
-INSERT INTO _usuario (id, username, password, pessoa_id) VALUES (2, 'maria', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 2);
+INSERT INTO _usuario (id, username, password, pessoa_id, token_versao) VALUES (2, 'maria', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 2, 0);
 
 -- Carlos Pereira (Pessoa id=3) ganha login “carlos”
-INSERT INTO _usuario (id, username, password, pessoa_id) VALUES (3, 'carlos', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 3);
+INSERT INTO _usuario (id, username, password, pessoa_id, token_versao) VALUES (3, 'carlos', '$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW', 3, 0);
 
 -- SELECT MAX(id) FROM _pessoa;
 
--- Suponha que o maior id seja 3, ajuste a sequence para começar do 4
-ALTER SEQUENCE pessoa_seq RESTART WITH 5;
--- Após inserir dados em _usuario, _projeto, etc.
-ALTER TABLE _usuario ALTER COLUMN id RESTART WITH 4;
-ALTER TABLE _projeto ALTER COLUMN id RESTART WITH 3;
-ALTER TABLE _avaliacao ALTER COLUMN id RESTART WITH 3;
-ALTER TABLE _status ALTER COLUMN id RESTART WITH 5;
--- Repita para outras tabelas conforme necessário
\ No newline at end of file
+-- Ajusta as sequences para começar depois dos ids inseridos acima
+-- (o otimizador pooled-lo usa o valor da sequence como primeiro id de cada bloco)
+ALTER SEQUENCE pessoa_seq RESTART WITH 6;
+ALTER SEQUENCE usuario_seq RESTART WITH 4;
+ALTER SEQUENCE projeto_seq RESTART WITH 3;
+ALTER SEQUENCE avaliacao_seq RESTART WITH 3;
+ALTER SEQUENCE cronograma_seq RESTART WITH 6;
+ALTER SEQUENCE premio_seq RESTART WITH 4;
+-- _status usa ids atribuídos manualmente (sem sequence)
@@ -0,0 +1,107 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exporta {@value #PROJETOS} projetos (cada um com um autor e duas avaliações) e mede o heap
+ * ocupado durante a exportação, depois de 10% e de 90% dos projetos: com o contexto de
+ * persistência limpo a cada lote, a diferença não deve crescer com a quantidade de projetos.
+ * Também confere que as coleções são carregadas em lote (sem N+1).
+ * <p>
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=ExportacaoProjetosBenchmark -Dbenchmark=true}
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ExportacaoProjetosBenchmark {
+
+    private static final int PROJETOS = 200_000;
+    private static final long PRIMEIRO_ID = 1_000_000;
+    private static final long CRESCIMENTO_MAXIMO_MB = 32;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @BeforeEach
+    void carregar() {
+        long ultimoId = PRIMEIRO_ID + PROJETOS - 1;
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, "
+                + "soma_notas, quantidade_avaliacoes, media_notas, nota_maxima) "
+                + "SELECT X, 'Projeto ' || X, 'Resumo do projeto ' || X, DATE '2025-01-01', 'Tecnologia', "
+                + "15, 2, 7.5, 8 FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, ultimoId);
+        jdbcTemplate.update("INSERT INTO _projeto_autor (projeto_id, autor_id) "
+                + "SELECT X, 1 FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, ultimoId);
+        for (int nota = 7; nota <= 8; nota++) {
+            jdbcTemplate.update("INSERT INTO _avaliacao (id, parecer, nota, data_avaliacao, avaliador_id, "
+                    + "status_id, projeto_id) SELECT X * 2 + ?, 'Parecer', ?, DATE '2025-02-01', 2, 3, X "
+                    + "FROM SYSTEM_RANGE(?, ?)", nota, nota, PRIMEIRO_ID, ultimoId);
+        }
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _avaliacao WHERE projeto_id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto_autor WHERE projeto_id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PRIMEIRO_ID);
+    }
+
+    @Test
+    void memoriaConstanteDuranteExportacao() {
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long[] contagem = {0};
+        long[] heapNoInicio = {0};
+        long[] heapNoFim = {0};
+        long inicio = System.nanoTime();
+        long total = projetoService.exportar(projeto -> {
+            contagem[0]++;
+            if (contagem[0] == PROJETOS / 10) {
+                heapNoInicio[0] = heapUsadoMb();
+            } else if (contagem[0] == PROJETOS / 10 * 9) {
+                heapNoFim[0] = heapUsadoMb();
+            }
+        });
+        long millis = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf("%nExportação de %d projetos em %d ms (%d consultas)%n",
+                total, millis, statistics.getPrepareStatementCount());
+        System.out.printf("Heap após 10%%: %d MB; após 90%%: %d MB%n%n", heapNoInicio[0], heapNoFim[0]);
+
+        assertTrue(total >= PROJETOS, "Nem todos os projetos foram exportados");
+        // 1 consulta dos projetos + autores e avaliações de cada lote de 500
+        assertEquals(1 + 2 * ((total + 499) / 500), statistics.getPrepareStatementCount(),
+                "As coleções não foram carregadas em lote");
+        assertTrue(heapNoFim[0] - heapNoInicio[0] <= CRESCIMENTO_MAXIMO_MB,
+                "O heap cresceu com a quantidade de projetos exportados");
+    }
+
+    private static long heapUsadoMb() {
+        System.gc();
+        Runtime runtime = Runtime.getRuntime();
+        return (runtime.totalMemory() - runtime.freeMemory()) / (1024 * 1024);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.controller.DTO.ImportacaoDTO.ResultadoImportacaoDTO;
+import com.gestaoprojetos.service.AutorServiceIMP;
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.StringReader;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Importa {@value #LINHAS} autores e {@value #LINHAS} projetos por CSV e confere que cada
+ * importação termina em menos de {@value #TEMPO_MAXIMO_MS} ms, com as linhas inválidas
+ * rejeitadas sem interromper as demais.
+ * <p>
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=ImportacaoCsvBenchmark -Dbenchmark=true}
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ImportacaoCsvBenchmark {
+
+    private static final int LINHAS = 100_000;
+    private static final long TEMPO_MAXIMO_MS = 60_000;
+    // a cada INVALIDA linhas, uma é inválida
+    private static final int INVALIDA = 1_000;
+
+    @Autowired
+    private AutorServiceIMP autorService;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Test
+    void importa100milLinhasEmMenosDeUmMinuto() {
+        ResultadoImportacaoDTO autores = importar("autores", "nome,cpf,email,telefone", i -> i % INVALIDA == 0
+                ? ",123,autor" + i + "@exemplo.com,99999-0000"
+                : "Autor " + i + ",123.456.789-00,autor" + i + "@exemplo.com,99999-0000",
+                csv -> autorService.importarCsv(new StringReader(csv)));
+
+        // autores 1 e 3 existem no import.sql
+        ResultadoImportacaoDTO projetos = importar("projetos", "titulo,resumo,dataEnvio,areaTematica,autoresId",
+                i -> i % INVALIDA == 0
+                        ? "Projeto " + i + ",Resumo,2025-01-01,Tecnologia,1;999999"
+                        : "Projeto " + i + ",\"Resumo, com vírgula\",2025-01-01,Tecnologia,1;3",
+                csv -> projetoService.importarCsv(new StringReader(csv)));
+
+        for (ResultadoImportacaoDTO resultado : new ResultadoImportacaoDTO[]{autores, projetos}) {
+            assertEquals(LINHAS, resultado.getRecebidas());
+            assertEquals(LINHAS / INVALIDA, resultado.getRejeitadas());
+            assertEquals(LINHAS - LINHAS / INVALIDA, resultado.getCriadas());
+        }
+    }
+
+    private ResultadoImportacaoDTO importar(String nome, String cabecalho, IntFunction<String> linha,
+                                            Function<String, ResultadoImportacaoDTO> importacao) {
+        StringBuilder csv = new StringBuilder(cabecalho).append('\n');
+        for (int i = 0; i < LINHAS; i++) {
+            csv.append(linha.apply(i)).append('\n');
+        }
+
+        long inicio = System.nanoTime();
+        ResultadoImportacaoDTO resultado = importacao.apply(csv.toString());
+        long millis = (System.nanoTime() - inicio) / 1_000_000;
+
+        System.out.printf("%nImportação de %d %s: %d ms (%d criados, %d rejeitados)%n",
+                resultado.getRecebidas(), nome, millis, resultado.getCriadas(), resultado.getRejeitadas());
+        assertTrue(millis < TEMPO_MAXIMO_MS, "Importação de " + nome + " levou " + millis + " ms");
+        return resultado;
+    }
+}
@@ -0,0 +1,135 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.model.Autor;
+import com.gestaoprojetos.model.Avaliacao;
+import com.gestaoprojetos.model.Avaliador;
+import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.model.Status;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compara a carga em massa de autores, projetos e avaliações com e sem JDBC batch.
+ * <p>
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=InsercaoEmLoteBenchmark -Dbenchmark=true}
+ * <p>
+ * Cada rodada grava tudo em uma transação que é desfeita no fim, então o banco
+ * volta ao estado do import.sql entre as medições.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class InsercaoEmLoteBenchmark {
+
+    private static final int AUTORES = 1_000;
+    private static final int PROJETOS = 2_000;
+    private static final int AVALIACOES_POR_PROJETO = 5;
+    private static final int AQUECIMENTO = 2;
+    private static final int RODADAS = 5;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void insercaoComBatchSuperaInsercaoUmaAUm() {
+        Medicao semBatch = medir(1);
+        Medicao comBatch = medir(50);
+
+        System.out.printf("%nCarga de %d autores, %d projetos e %d avaliações%n",
+                AUTORES, PROJETOS, PROJETOS * AVALIACOES_POR_PROJETO);
+        System.out.println(semBatch);
+        System.out.println(comBatch);
+        System.out.printf("Ganho: %.1fx%n%n", semBatch.millis / comBatch.millis);
+
+        assertTrue(comBatch.statements < semBatch.statements, "Nenhum INSERT foi agrupado em batch");
+        assertTrue(comBatch.millis < semBatch.millis, "Batch não foi mais rápido que inserção um a um");
+    }
+
+    private Medicao medir(int tamanhoLote) {
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            carregar(tamanhoLote);
+        }
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        long inicio = System.nanoTime();
+        for (int i = 0; i < RODADAS; i++) {
+            carregar(tamanhoLote);
+        }
+        double millis = (System.nanoTime() - inicio) / 1_000_000.0 / RODADAS;
+        return new Medicao(tamanhoLote, millis,
+                statistics.getPrepareStatementCount() / RODADAS,
+                statistics.getEntityInsertCount() / RODADAS);
+    }
+
+    private void carregar(int tamanhoLote) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setJdbcBatchSize(tamanhoLote);
+            Avaliador avaliador = entityManager.getReference(Avaliador.class, 2L);
+            Status pendente = entityManager.getReference(Status.class, 1L);
+
+            List<Autor> autores = new ArrayList<>(AUTORES);
+            for (int i = 0; i < AUTORES; i++) {
+                Autor autor = new Autor(null, "Autor " + i, "000.000.000-" + i,
+                        "autor" + i + "@example.com", "99999-0000", null);
+                entityManager.persist(autor);
+                autores.add(autor);
+            }
+
+            for (int i = 0; i < PROJETOS; i++) {
+                Projeto projeto = new Projeto(null, "Projeto " + i, "Resumo " + i,
+                        LocalDate.of(2025, 6, 1), "Tecnologia",
+                        List.of(autores.get(i % AUTORES)), null);
+                entityManager.persist(projeto);
+                for (int n = 0; n < AVALIACOES_POR_PROJETO; n++) {
+                    Avaliacao avaliacao = new Avaliacao("Parecer " + n, (double) n);
+                    avaliacao.setDataAvaliacao(LocalDate.of(2025, 6, 10));
+                    avaliacao.setAvaliador(avaliador);
+                    avaliacao.setStatus(pendente);
+                    avaliacao.setProjeto(projeto);
+                    entityManager.persist(avaliacao);
+                }
+                if ((i + 1) % 500 == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    avaliador = entityManager.getReference(Avaliador.class, 2L);
+                    pendente = entityManager.getReference(Status.class, 1L);
+                    autores.replaceAll(autor -> entityManager.getReference(Autor.class, autor.getId()));
+                }
+            }
+            entityManager.flush();
+            entityManager.clear();
+            status.setRollbackOnly();
+        });
+    }
+
+    private record Medicao(int tamanhoLote, double millis, long statements, long entidades) {
+        @Override
+        public String toString() {
+            return String.format("batch_size=%-3d %8.1f ms/carga  %7.0f entidades/s  %6d statements",
+                    tamanhoLote, millis, entidades / (millis / 1000.0), statements);
+        }
+    }
+}
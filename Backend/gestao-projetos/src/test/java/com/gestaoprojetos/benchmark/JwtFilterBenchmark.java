@@ -0,0 +1,182 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.repository.UsuarioRepository;
+import com.gestaoprojetos.security.CacheTokensVerificados;
+import com.gestaoprojetos.security.ChavesJwt;
+import com.gestaoprojetos.security.JwtAuthenticationFilter;
+import com.gestaoprojetos.security.JwtUtil;
+import com.gestaoprojetos.security.UsuarioAutenticado;
+import com.gestaoprojetos.security.VersoesToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.security.Key;
+import java.util.Date;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo do JwtAuthenticationFilter por requisição: versão anterior (quatro parsers
+ * montados e quatro verificações HMAC) contra a atual (parser único e cache de tokens
+ * verificados), com e sem acerto no cache.
+ * <p>
+ * O UserDetailsService (filtro anterior) e o repositório da versão dos tokens (filtro atual)
+ * são stubs em memória, para medir só o trabalho com o JWT.
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=JwtFilterBenchmark -Dbenchmark=true}
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtFilterBenchmark {
+
+    private static final UserDetailsService USUARIOS = username -> User
+            .withUsername(username)
+            .password("{noop}x")
+            .authorities("USER")
+            .build();
+
+    private OncePerRequestFilter filtroAnterior;
+    private OncePerRequestFilter filtroAtual;
+    private CacheTokensVerificados tokensVerificados;
+    private String tokenAnterior;
+    private String tokenAtual;
+
+    @Setup
+    public void preparar() {
+        JwtUtilAnterior jwtAnterior = new JwtUtilAnterior();
+        filtroAnterior = new FiltroAnterior(jwtAnterior);
+        tokenAnterior = jwtAnterior.generateToken("joao");
+
+        UsuarioRepository usuarios = Mockito.mock(UsuarioRepository.class);
+        Mockito.when(usuarios.findTokenVersaoById(1L)).thenReturn(Optional.of(0L));
+        JwtUtil jwtUtil = new JwtUtil(ChavesJwt.aleatoria());
+        tokensVerificados = new CacheTokensVerificados(jwtUtil, new SimpleMeterRegistry());
+        filtroAtual = new JwtAuthenticationFilter(tokensVerificados, new VersoesToken(usuarios));
+        tokenAtual = jwtUtil.generateToken(
+                new UsuarioAutenticado(1L, "joao", null, 1L, 0, UsuarioAutenticado.AUTHORITIES_PADRAO));
+    }
+
+    @TearDown(Level.Invocation)
+    public void limparContexto() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Benchmark
+    public Object filtroAnterior() throws ServletException, IOException {
+        return filtrar(filtroAnterior, tokenAnterior);
+    }
+
+    @Benchmark
+    public Object filtroAtual() throws ServletException, IOException {
+        return filtrar(filtroAtual, tokenAtual);
+    }
+
+    /**
+     * Primeira requisição com o token: cache vazio, verificação HMAC completa.
+     */
+    @Benchmark
+    public Object filtroAtualSemCache() throws ServletException, IOException {
+        tokensVerificados.esvaziar();
+        return filtrar(filtroAtual, tokenAtual);
+    }
+
+    private static Object filtrar(OncePerRequestFilter filtro, String token) throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/projetos");
+        request.addHeader("Authorization", "Bearer " + token);
+        filtro.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void executar() throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(JwtFilterBenchmark.class.getSimpleName())
+                .build())
+                .run();
+    }
+
+    /**
+     * Cópia do JwtUtil anterior: um parser novo a cada leitura de claim.
+     */
+    static class JwtUtilAnterior {
+        private final Key key = Keys.secretKeyFor(SignatureAlgorithm.HS256);
+
+        String generateToken(String username) {
+            Date now = new Date();
+            return Jwts.builder()
+                    .setSubject(username)
+                    .setIssuedAt(now)
+                    .setExpiration(new Date(now.getTime() + 1000 * 60 * 60 * 2))
+                    .signWith(key)
+                    .compact();
+        }
+
+        String getUsernameFromToken(String token) {
+            return claims(token).getSubject();
+        }
+
+        boolean validateToken(String token, String username) {
+            return getUsernameFromToken(token).equals(username)
+                    && !claims(token).getExpiration().before(new Date());
+        }
+
+        private Claims claims(String token) {
+            return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        }
+    }
+
+    /**
+     * Cópia do doFilterInternal anterior: quatro verificações do mesmo token.
+     */
+    static class FiltroAnterior extends OncePerRequestFilter {
+        private final JwtUtilAnterior jwtUtil;
+
+        FiltroAnterior(JwtUtilAnterior jwtUtil) {
+            this.jwtUtil = jwtUtil;
+        }
+
+        @Override
+        protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                        FilterChain filterChain) throws ServletException, IOException {
+            String token = request.getHeader("Authorization").substring(7);
+            if (jwtUtil.validateToken(token, jwtUtil.getUsernameFromToken(token))) {
+                UserDetails userDetails = USUARIOS.loadUserByUsername(jwtUtil.getUsernameFromToken(token));
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            }
+            filterChain.doFilter(request, response);
+        }
+    }
+}
@@ -0,0 +1,128 @@
+package com.gestaoprojetos.benchmark;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga do login: latência de um usuário legítimo sem ataque e durante um ataque
+ * de força bruta a {@value #ATAQUES_POR_SEGUNDO} tentativas/s (um username a partir de vários
+ * IPs e vários usernames a partir de um IP).
+ * <p>
+ * Com o LimitadorLogin, o ataque passa a receber 429 antes do BCrypt e a latência do
+ * usuário legítimo se mantém. Para comparar sem o limitador, rode com
+ * {@code -Dlogin.limite.usuario=1000000 -Dlogin.limite.ip=1000000}: cada tentativa custa um
+ * BCrypt, o pool de senhas satura e o login legítimo passa a esperar ou receber 429. O IP de cada cliente vem do X-Forwarded-For
+ * (server.forward-headers-strategy=native; o Tomcat confia no proxy em 127.0.0.1).
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=LoginSobAtaqueBenchmark -Dbenchmark=true}
+ */
+@SpringBootTest(
+        webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "server.forward-headers-strategy=native",
+                "senhas.hash.custo=10",
+                "spring.jpa.show-sql=false"
+        })
+class LoginSobAtaqueBenchmark {
+
+    private static final int LOGINS_LEGITIMOS = 30;
+    private static final int ATAQUES_POR_SEGUNDO = 50;
+
+    @LocalServerPort
+    private int porta;
+
+    private final HttpClient cliente = HttpClient.newHttpClient();
+
+    @Test
+    @EnabledIfSystemProperty(named = "benchmark", matches = "true")
+    void latenciaDoLoginLegitimoDuranteAtaque() throws Exception {
+        // aquecimento
+        for (int i = 0; i < 5; i++) {
+            login("maria", "senha123", "10.0.0.1");
+        }
+        List<Long> semAtaque = loginsLegitimos();
+
+        Map<Integer, LongAdder> respostasAtaque = new ConcurrentHashMap<>();
+        AtomicInteger sequencia = new AtomicInteger();
+        ScheduledExecutorService atacante = Executors.newSingleThreadScheduledExecutor();
+        // taxa fixa e envio assíncrono: respostas lentas não diminuem o ritmo do ataque
+        atacante.scheduleAtFixedRate(() -> {
+            int n = sequencia.incrementAndGet();
+            HttpRequest request = n % 2 == 0
+                    // um username, IPs sempre novos
+                    ? requisicaoLogin("joao", "chute" + n, "10.1." + (n / 250 % 250) + "." + (n % 250))
+                    // usernames sempre novos, um IP
+                    : requisicaoLogin("alvo" + n, "chute" + n, "10.2.0.1");
+            cliente.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenAccept(r -> respostasAtaque.computeIfAbsent(r.statusCode(), s -> new LongAdder()).increment());
+        }, 0, 1_000_000 / ATAQUES_POR_SEGUNDO, TimeUnit.MICROSECONDS);
+        // as primeiras tentativas do ataque ainda passam pelo BCrypt até os limites serem atingidos
+        Thread.sleep(8_000);
+        List<Long> comAtaque = loginsLegitimos();
+        atacante.shutdownNow();
+
+        System.out.printf("Login legítimo sem ataque: p50=%d ms p95=%d ms%n",
+                percentil(semAtaque, 50), percentil(semAtaque, 95));
+        System.out.printf("Login legítimo com ataque: p50=%d ms p95=%d ms%n",
+                percentil(comAtaque, 50), percentil(comAtaque, 95));
+        System.out.println("Respostas do ataque por status: " + respostasAtaque);
+
+        assertTrue(percentil(comAtaque, 95) <= 2 * percentil(semAtaque, 95) + 100,
+                "A latência do login legítimo não deveria subir durante o ataque");
+    }
+
+    private List<Long> loginsLegitimos() {
+        List<Long> latencias = new ArrayList<>();
+        for (int i = 0; i < LOGINS_LEGITIMOS; i++) {
+            long inicio = System.nanoTime();
+            int status = login("maria", "senha123", "10.0.0.1");
+            latencias.add((System.nanoTime() - inicio) / 1_000_000);
+            assertTrue(status == 200, "Login legítimo recusado com status " + status);
+        }
+        return latencias;
+    }
+
+    private int login(String username, String senha, String ip) {
+        try {
+            return cliente.send(requisicaoLogin(username, senha, ip), HttpResponse.BodyHandlers.discarding())
+                    .statusCode();
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    private HttpRequest requisicaoLogin(String username, String senha, String ip) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + porta + "/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", ip)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"username\":\"" + username + "\",\"password\":\"" + senha + "\"}"))
+                .build();
+    }
+
+    private static long percentil(List<Long> valores, int percentil) {
+        List<Long> ordenados = new ArrayList<>(valores);
+        Collections.sort(ordenados);
+        int indice = (int) Math.ceil(percentil / 100.0 * ordenados.size()) - 1;
+        return ordenados.get(Math.max(0, indice));
+    }
+}
@@ -0,0 +1,151 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.controller.DTO.AvaliacaoDTO;
+import com.gestaoprojetos.controller.DTO.PessoaDTO.PessoaResponseDTO;
+import com.gestaoprojetos.repository.CursorPage;
+import com.gestaoprojetos.service.AvaliacaoServiceIMP;
+import com.gestaoprojetos.service.AvaliadorServiceIMP;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Percorre todas as páginas de avaliadores e de avaliações de duas formas: carregando as
+ * entidades e convertendo para DTO (como era feito) e pela projeção por construtor. Mede o
+ * tempo e os bytes alocados pela thread em cada forma; a projeção deve alocar menos.
+ * <p>
+ * Cada página roda em uma transação própria, como uma requisição.
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=ProjecaoResumoBenchmark -Dbenchmark=true}
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class ProjecaoResumoBenchmark {
+
+    private static final int AVALIADORES = 20_000;
+    private static final int PROJETOS = 5_000;
+    private static final int AVALIACOES_POR_PROJETO = 4;
+    private static final long PRIMEIRO_ID = 1_000_000;
+    private static final int RODADAS = 5;
+
+    @Autowired
+    private AvaliadorServiceIMP avaliadorService;
+
+    @Autowired
+    private AvaliacaoServiceIMP avaliacaoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void carregar() {
+        jdbcTemplate.update("INSERT INTO _avaliador (id, nome, cpf, telefone, email) "
+                + "SELECT X, 'Avaliador ' || X, '123.456.789-00', '99999-0000', 'avaliador' || X || '@exemplo.com' "
+                + "FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, PRIMEIRO_ID + AVALIADORES - 1);
+        // resumo ocupando quase toda a coluna (255)
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, "
+                + "soma_notas, quantidade_avaliacoes, media_notas, nota_maxima) "
+                + "SELECT X, 'Projeto ' || X, REPEAT('Resumo do projeto. ', 13), DATE '2025-01-01', 'Tecnologia', "
+                + "30, 4, 7.5, 8 FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, PRIMEIRO_ID + PROJETOS - 1);
+        jdbcTemplate.update("INSERT INTO _avaliacao (id, parecer, nota, data_avaliacao, avaliador_id, status_id, projeto_id) "
+                        + "SELECT X, 'Parecer ' || X, 7.5, DATE '2025-02-01', ? + MOD(X, ?), 3, ? + MOD(X, ?) "
+                        + "FROM SYSTEM_RANGE(?, ?)",
+                PRIMEIRO_ID, AVALIADORES, PRIMEIRO_ID, PROJETOS,
+                PRIMEIRO_ID, PRIMEIRO_ID + PROJETOS * AVALIACOES_POR_PROJETO - 1);
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _avaliacao WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _avaliador WHERE id >= ?", PRIMEIRO_ID);
+    }
+
+    @Test
+    void projecaoAlocaMenosQueEntidades() {
+        Function<String, CursorPage<?>> avaliadoresPorEntidade = cursor -> avaliadorService
+                .findPage(cursor, CursorPage.TAMANHO_MAXIMO)
+                .map(a -> new PessoaResponseDTO(a.getId(), a.getNome(), a.getCpf(), a.getTelefone(), a.getEmail()));
+        Function<String, CursorPage<?>> avaliadoresPorProjecao = cursor -> avaliadorService
+                .listarTodos(cursor, CursorPage.TAMANHO_MAXIMO);
+        Function<String, CursorPage<?>> avaliacoesPorEntidade = cursor -> avaliacaoService
+                .findPage(cursor, CursorPage.TAMANHO_MAXIMO)
+                .map(AvaliacaoDTO::toAvaliacaoResponseDTO);
+        Function<String, CursorPage<?>> avaliacoesPorProjecao = cursor -> avaliacaoService
+                .listarTodos(cursor, CursorPage.TAMANHO_MAXIMO);
+
+        // mesmo conteúdo e mesmo cursor nas duas formas
+        assertEquals(primeiraPagina(avaliadoresPorEntidade), primeiraPagina(avaliadoresPorProjecao));
+        assertEquals(primeiraPagina(avaliacoesPorEntidade), primeiraPagina(avaliacoesPorProjecao));
+
+        Medicao avaliadoresEntidade = medir("avaliadores (entidades)", avaliadoresPorEntidade);
+        Medicao avaliadoresProjecao = medir("avaliadores (projeção)", avaliadoresPorProjecao);
+        Medicao avaliacoesEntidade = medir("avaliações (entidades)", avaliacoesPorEntidade);
+        Medicao avaliacoesProjecao = medir("avaliações (projeção)", avaliacoesPorProjecao);
+
+        assertEquals(avaliadoresEntidade.itens(), avaliadoresProjecao.itens());
+        assertEquals(avaliacoesEntidade.itens(), avaliacoesProjecao.itens());
+        assertTrue(avaliadoresProjecao.bytes() < avaliadoresEntidade.bytes(),
+                "A projeção de avaliadores alocou mais que as entidades");
+        assertTrue(avaliacoesProjecao.bytes() < avaliacoesEntidade.bytes(),
+                "A projeção de avaliações alocou mais que as entidades");
+    }
+
+    /**
+     * Percorre todas as páginas {@value #RODADAS} vezes (a primeira é aquecimento) e devolve
+     * a média das demais.
+     */
+    private Medicao medir(String nome, Function<String, CursorPage<?>> pagina) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long itens = 0;
+        long bytes = 0;
+        long nanos = 0;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long bytesAntes = threads.getCurrentThreadAllocatedBytes();
+            long inicio = System.nanoTime();
+            itens = percorrer(pagina);
+            if (rodada > 0) {
+                nanos += System.nanoTime() - inicio;
+                bytes += threads.getCurrentThreadAllocatedBytes() - bytesAntes;
+            }
+        }
+        Medicao medicao = new Medicao(itens, bytes / (RODADAS - 1), nanos / (RODADAS - 1) / 1_000_000);
+        System.out.printf("%n%-25s %7d itens  %6d ms  %8.1f MB alocados%n",
+                nome, medicao.itens(), medicao.millis(), medicao.bytes() / (1024.0 * 1024.0));
+        return medicao;
+    }
+
+    private CursorPage<?> primeiraPagina(Function<String, CursorPage<?>> pagina) {
+        return transactionTemplate.execute(status -> pagina.apply(null));
+    }
+
+    private long percorrer(Function<String, CursorPage<?>> pagina) {
+        long itens = 0;
+        String cursor = null;
+        do {
+            String atual = cursor;
+            CursorPage<?> resultado = transactionTemplate.execute(status -> pagina.apply(atual));
+            itens += resultado.getItens().size();
+            cursor = resultado.getNextCursor();
+        } while (cursor != null);
+        return itens;
+    }
+
+    private record Medicao(long itens, long bytes, long millis) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.gestaoprojetos.benchmark;
+
+import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.lang.management.ManagementFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exporta todos os projetos (entidades com autores e avaliações, convertidas para DTO)
+ * dentro de uma transação de escrita e dentro de uma transação somente leitura, e compara
+ * os bytes alocados e o tempo de CPU da thread. O service participa da transação externa,
+ * então a diferença é só o modo da transação: na de escrita o Hibernate guarda um snapshot
+ * de cada entidade e faz o dirty checking no commit; na somente leitura, não.
+ * <p>
+ * Não roda no build normal; para executar:
+ * {@code mvn test -Dtest=TransacaoSomenteLeituraBenchmark -Dbenchmark=true}
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@EnabledIfSystemProperty(named = "benchmark", matches = "true")
+class TransacaoSomenteLeituraBenchmark {
+
+    private static final int PROJETOS = 20_000;
+    private static final long PRIMEIRO_ID = 1_000_000;
+    private static final int RODADAS = 5;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void carregar() {
+        long ultimoId = PRIMEIRO_ID + PROJETOS - 1;
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, "
+                + "soma_notas, quantidade_avaliacoes, media_notas, nota_maxima) "
+                + "SELECT X, 'Projeto ' || X, 'Resumo do projeto ' || X, DATE '2025-01-01', 'Tecnologia', "
+                + "15, 2, 7.5, 8 FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, ultimoId);
+        jdbcTemplate.update("INSERT INTO _projeto_autor (projeto_id, autor_id) "
+                + "SELECT X, 1 FROM SYSTEM_RANGE(?, ?)", PRIMEIRO_ID, ultimoId);
+        for (int nota = 7; nota <= 8; nota++) {
+            jdbcTemplate.update("INSERT INTO _avaliacao (id, parecer, nota, data_avaliacao, avaliador_id, "
+                    + "status_id, projeto_id) SELECT X * 2 + ?, 'Parecer', ?, DATE '2025-02-01', 2, 3, X "
+                    + "FROM SYSTEM_RANGE(?, ?)", nota, nota, PRIMEIRO_ID, ultimoId);
+        }
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _avaliacao WHERE projeto_id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto_autor WHERE projeto_id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PRIMEIRO_ID);
+    }
+
+    @Test
+    void somenteLeituraAlocaEUsaMenosCpu() {
+        // readOnly na transação chega ao Hibernate: as entidades carregadas ficam read-only
+        assertTrue(carregadoComoSomenteLeitura(true));
+        assertFalse(carregadoComoSomenteLeitura(false));
+
+        Medicao escrita = medir("transação de escrita", false);
+        Medicao leitura = medir("transação somente leitura", true);
+
+        assertEquals(escrita.itens(), leitura.itens());
+        assertTrue(leitura.bytes() < escrita.bytes(), "A transação somente leitura alocou mais");
+        assertTrue(leitura.cpuMillis() < escrita.cpuMillis(), "A transação somente leitura usou mais CPU");
+    }
+
+    private boolean carregadoComoSomenteLeitura(boolean somenteLeitura) {
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(somenteLeitura);
+        return transacao.execute(status -> {
+            Projeto projeto = projetoService.buscarDetalhePorId(PRIMEIRO_ID);
+            return entityManager.unwrap(Session.class).isReadOnly(projeto);
+        });
+    }
+
+    /**
+     * Exporta todos os projetos {@value #RODADAS} vezes (a primeira é aquecimento) e devolve
+     * a média das demais.
+     */
+    private Medicao medir(String nome, boolean somenteLeitura) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        TransactionTemplate transacao = new TransactionTemplate(transactionManager);
+        transacao.setReadOnly(somenteLeitura);
+
+        long itens = 0;
+        long bytes = 0;
+        long cpu = 0;
+        for (int rodada = 0; rodada < RODADAS; rodada++) {
+            long bytesAntes = threads.getCurrentThreadAllocatedBytes();
+            long cpuAntes = threads.getCurrentThreadCpuTime();
+            itens = percorrer(transacao);
+            if (rodada > 0) {
+                bytes += threads.getCurrentThreadAllocatedBytes() - bytesAntes;
+                cpu += threads.getCurrentThreadCpuTime() - cpuAntes;
+            }
+        }
+        Medicao medicao = new Medicao(itens, bytes / (RODADAS - 1), cpu / (RODADAS - 1) / 1_000_000);
+        System.out.printf("%n%-27s %7d projetos  %6d ms de CPU  %8.1f MB alocados%n",
+                nome, medicao.itens(), medicao.cpuMillis(), medicao.bytes() / (1024.0 * 1024.0));
+        return medicao;
+    }
+
+    private long percorrer(TransactionTemplate transacao) {
+        // a listagem paginada usa projeção (nada entra no contexto de persistência); a exportação
+        // ainda carrega as entidades, em lotes
+        return transacao.execute(status -> projetoService.exportar(dto -> { }));
+    }
+
+    private record Medicao(long itens, long bytes, long cpuMillis) {
+    }
+}
@@ -0,0 +1,69 @@
+package com.gestaoprojetos.config;
+
+import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoRequestDTO;
+import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Sem Open Session in View, cada transação do service usa o seu próprio EntityManager: a escrita
+ * feita depois de uma leitura somente leitura, na mesma requisição, não reaproveita a entidade
+ * carregada read-only (cuja alteração seria ignorada no flush, sem erro).
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class EscritaSemEntidadesDaLeituraTest {
+
+    private static final long PROJETO = 1_000_000;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void carregar() {
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, soma_notas, "
+                + "quantidade_avaliacoes, soma_quadrados) "
+                + "VALUES (?, 'Projeto', 'Resumo', DATE '2025-01-01', 'Tecnologia', 0, 0, 0)", PROJETO);
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PROJETO);
+    }
+
+    @Test
+    void semOpenSessionInView() {
+        assertTrue(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+    }
+
+    @Test
+    void escritaDepoisDeLeituraUsaOutraEntidade() {
+        Projeto lido = projetoService.buscarPorId(PROJETO);
+        Projeto atualizado = projetoService.atualizarProjeto(PROJETO, new ProjetoRequestDTO("Título novo",
+                "Resumo", LocalDate.of(2025, 1, 1), "Tecnologia", List.of()));
+
+        assertNotSame(lido, atualizado);
+        assertEquals("Projeto", lido.getTitulo());
+        assertEquals("Título novo", jdbcTemplate.queryForObject(
+                "SELECT titulo FROM _projeto WHERE id = ?", String.class, PROJETO));
+    }
+}
@@ -0,0 +1,117 @@
+package com.gestaoprojetos.config;
+
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Com uma réplica configurada (um segundo H2, sincronizado com o primário por SCRIPT), confere
+ * que as leituras somente leitura vão à réplica, que as escritas ficam no primário e que quem
+ * acabou de escrever lê do primário até a fixação expirar.
+ * Usa Projeto, que não está no cache de segundo nível: toda leitura chega ao banco.
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:roteamento_primario;DB_CLOSE_DELAY=-1",
+        "datasource.replica.url=jdbc:h2:mem:roteamento_replica;DB_CLOSE_DELAY=-1",
+        "datasource.replica.fixacao-segundos=1"
+})
+class RoteamentoDataSourceTest {
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    @Qualifier("dataSourcePrimario")
+    private DataSource primario;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void sincronizar() {
+        List<String> script = new JdbcTemplate(primario).queryForList("SCRIPT", String.class);
+        // o pool da réplica é somente leitura; a cópia usa uma conexão direta
+        JdbcTemplate copia = new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:roteamento_replica;DB_CLOSE_DELAY=-1", "sa", ""));
+        copia.execute("DROP ALL OBJECTS");
+        script.forEach(copia::execute);
+    }
+
+    @AfterEach
+    void sair() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void leiturasVaoAReplicaExcetoLogoAposEscrita() throws InterruptedException {
+        entrarComo("ana");
+        Long id = projetoService.criarProjeto(novoProjeto("Projeto roteado")).getId();
+
+        // ana acabou de escrever: lê do primário
+        assertEquals("Projeto roteado", projetoService.buscarPorId(id).getTitulo());
+
+        // bruno lê da réplica, que ainda não tem o projeto
+        entrarComo("bruno");
+        assertThrows(ResourceNotFoundException.class, () -> projetoService.buscarPorId(id));
+        sincronizar();
+        assertEquals("Projeto roteado", projetoService.buscarPorId(id).getTitulo());
+
+        // expirada a fixação, ana volta para a réplica
+        new JdbcTemplate(primario).update("UPDATE _projeto SET titulo = 'Só no primário' WHERE id = ?", id);
+        entrarComo("ana");
+        Thread.sleep(1_100);
+        assertEquals("Projeto roteado", projetoService.buscarPorId(id).getTitulo());
+    }
+
+    @Test
+    void escritaDepoisDeLeituraNaMesmaSessaoVaiAoPrimario() {
+        // EntityManager vinculado à thread por fora das transações: uma sessão para a leitura e a escrita seguinte
+        entrarComo("carla");
+        TransactionSynchronizationManager.bindResource(entityManagerFactory,
+                new EntityManagerHolder(entityManagerFactory.createEntityManager()));
+        Long id;
+        try {
+            projetoService.listarTodos(null, 10, "id", "asc");
+            id = projetoService.criarProjeto(novoProjeto("Projeto da sessão")).getId();
+        } finally {
+            EntityManagerHolder holder = (EntityManagerHolder)
+                    TransactionSynchronizationManager.unbindResource(entityManagerFactory);
+            holder.getEntityManager().close();
+        }
+
+        assertEquals(1, new JdbcTemplate(primario).queryForObject(
+                "SELECT COUNT(*) FROM _projeto WHERE id = ?", Integer.class, id));
+    }
+
+    private static void entrarComo(String username) {
+        SecurityContextHolder.getContext().setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                username, null, AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static Projeto novoProjeto(String titulo) {
+        return new Projeto(null, titulo, "Resumo", LocalDate.of(2025, 6, 1), "Tecnologia",
+                new ArrayList<>(), new ArrayList<>());
+    }
+}
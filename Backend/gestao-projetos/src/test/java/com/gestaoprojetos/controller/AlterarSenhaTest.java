@@ -0,0 +1,109 @@
+package com.gestaoprojetos.controller;
+
+import com.gestaoprojetos.security.JwtUtil;
+import com.gestaoprojetos.security.UsuarioAutenticado;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * PUT /usuarios/{id}/senha só vale para o próprio usuário (ou um administrador) e exige a
+ * senha atual; depois da troca, os tokens anteriores deixam de ser aceitos.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+@AutoConfigureMockMvc
+class AlterarSenhaTest {
+
+    private static final long USUARIO = 1_000_000;
+    private static final long OUTRO_USUARIO = 1_000_001;
+    // só o teste do administrador altera: as versões de token ficam em cache entre os testes
+    private static final long ALTERADO_PELO_ADMIN = 1_000_002;
+    // hash BCrypt de "senha123", o mesmo do import.sql
+    private static final String HASH_SENHA = "$2a$10$txSNiCqhNZ1XRnXCo4igMuB2Jzi/YBkkLv2ZAH2CHqAyQtbiaV6gW";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @BeforeEach
+    void carregar() {
+        // cada usuário tem a sua pessoa; usa os mesmos IDs dos usuários
+        jdbcTemplate.update("INSERT INTO _autor (id, nome, cpf, telefone, email) VALUES "
+                + "(?, 'Autor A', '123.456.789-00', '99999-0000', 'a@exemplo.com'), "
+                + "(?, 'Autor B', '123.456.789-00', '99999-0000', 'b@exemplo.com'), "
+                + "(?, 'Autor C', '123.456.789-00', '99999-0000', 'c@exemplo.com')",
+                USUARIO, OUTRO_USUARIO, ALTERADO_PELO_ADMIN);
+        jdbcTemplate.update("INSERT INTO _usuario (id, username, password, pessoa_id, token_versao) "
+                + "VALUES (?, 'senha_a', ?, ?, 0), (?, 'senha_b', ?, ?, 0), (?, 'senha_c', ?, ?, 0)",
+                USUARIO, HASH_SENHA, USUARIO, OUTRO_USUARIO, HASH_SENHA, OUTRO_USUARIO,
+                ALTERADO_PELO_ADMIN, HASH_SENHA, ALTERADO_PELO_ADMIN);
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _usuario WHERE id >= ?", USUARIO);
+        jdbcTemplate.update("DELETE FROM _autor WHERE id >= ?", USUARIO);
+    }
+
+    @Test
+    void exigeOProprioUsuarioEASenhaAtual() throws Exception {
+        String corpo = "{\"senhaAtual\": \"senha123\", \"senha\": \"nova\"}";
+        mockMvc.perform(alterar(USUARIO, null, corpo)).andExpect(status().isUnauthorized());
+        mockMvc.perform(alterar(USUARIO, token(OUTRO_USUARIO, UsuarioAutenticado.AUTHORITIES_PADRAO), corpo))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(alterar(USUARIO, token(USUARIO, UsuarioAutenticado.AUTHORITIES_PADRAO),
+                        "{\"senha\": \"nova\"}"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(alterar(USUARIO, token(USUARIO, UsuarioAutenticado.AUTHORITIES_PADRAO),
+                        "{\"senhaAtual\": \"errada\", \"senha\": \"nova\"}"))
+                .andExpect(status().isBadRequest());
+        assertEquals(HASH_SENHA, senhaGravada());
+
+        String token = token(USUARIO, UsuarioAutenticado.AUTHORITIES_PADRAO);
+        mockMvc.perform(alterar(USUARIO, token, corpo)).andExpect(status().isNoContent());
+        // o token usado na troca foi revogado junto com os demais
+        mockMvc.perform(alterar(USUARIO, token, corpo)).andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void administradorAlteraOutroUsuario() throws Exception {
+        String admin = token(OUTRO_USUARIO, List.of("USER", UsuarioAutenticado.AUTHORITY_ADMIN));
+        mockMvc.perform(alterar(ALTERADO_PELO_ADMIN, admin, "{\"senhaAtual\": \"senha123\", \"senha\": \"nova\"}"))
+                .andExpect(status().isNoContent());
+    }
+
+    private MockHttpServletRequestBuilder alterar(long id, String token, String corpo) {
+        MockHttpServletRequestBuilder requisicao = put("/usuarios/{id}/senha", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(corpo);
+        return token == null ? requisicao : requisicao.header(HttpHeaders.AUTHORIZATION, "Bearer " + token);
+    }
+
+    private String token(long usuarioId, List<String> authorities) {
+        return jwtUtil.generateToken(new UsuarioAutenticado(usuarioId, "senha_" + usuarioId, null, usuarioId,
+                0, authorities));
+    }
+
+    private String senhaGravada() {
+        return jdbcTemplate.queryForObject("SELECT password FROM _usuario WHERE id = ?", String.class, USUARIO);
+    }
+}
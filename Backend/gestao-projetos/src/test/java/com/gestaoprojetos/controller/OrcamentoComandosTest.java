@@ -0,0 +1,241 @@
+package com.gestaoprojetos.controller;
+
+import com.gestaoprojetos.exception.BadRequestException;
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import com.gestaoprojetos.model.Avaliacao;
+import com.gestaoprojetos.service.AvaliacaoServiceIMP;
+import com.gestaoprojetos.service.ProjetoServiceIMP;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Orçamento de comandos SQL de cada endpoint de remoção e de associação: a requisição inteira
+ * (service e conversão para DTO na resposta) não pode preparar mais comandos que o orçamento.
+ * Os casos de 404 também têm orçamento: a ausência é detectada pela quantidade de linhas
+ * afetadas, sem consulta prévia.
+ * <p>
+ * Os dados são gravados direto por JDBC com IDs a partir de {@value #PRIMEIRO_ID}, fora do
+ * contexto de persistência, para que nenhuma leitura seja atendida pela sessão.
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureMockMvc
+class OrcamentoComandosTest {
+
+    private static final long PRIMEIRO_ID = 1_000_000;
+    private static final long PROJETO = PRIMEIRO_ID;
+    private static final long OUTRO_PROJETO = PRIMEIRO_ID + 1;
+    private static final long AUTOR_SEM_PROJETO = PRIMEIRO_ID;
+    private static final long AUTOR_DO_PROJETO = PRIMEIRO_ID + 1;
+    private static final long AVALIADOR = PRIMEIRO_ID;
+    private static final long AVALIACAO = PRIMEIRO_ID;
+    private static final long CRONOGRAMA = PRIMEIRO_ID;
+    private static final long PREMIO = PRIMEIRO_ID;
+    private static final long INEXISTENTE = 999_999;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private AvaliacaoServiceIMP avaliacaoService;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void carregar() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        jdbcTemplate.update("INSERT INTO _autor (id, nome, cpf, telefone, email) VALUES "
+                + "(?, 'Autor sem projeto', '123.456.789-00', '99999-0000', 'a@exemplo.com'), "
+                + "(?, 'Autor do projeto', '123.456.789-00', '99999-0000', 'b@exemplo.com')",
+                AUTOR_SEM_PROJETO, AUTOR_DO_PROJETO);
+        jdbcTemplate.update("INSERT INTO _avaliador (id, nome, cpf, telefone, email) "
+                + "VALUES (?, 'Avaliador', '123.456.789-00', '99999-0000', 'c@exemplo.com')", AVALIADOR);
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, "
+                + "soma_notas, quantidade_avaliacoes, media_notas, nota_maxima, nota_minima, soma_quadrados, "
+                + "data_ultima_avaliacao) VALUES "
+                + "(?, 'Projeto', 'Resumo', DATE '2025-01-01', 'Tecnologia', 8, 1, 8, 8, 8, 64, DATE '2025-02-01'), "
+                + "(?, 'Outro projeto', 'Resumo', DATE '2025-01-01', 'Tecnologia', 0, 0, NULL, NULL, NULL, 0, NULL)",
+                PROJETO, OUTRO_PROJETO);
+        jdbcTemplate.update("INSERT INTO _projeto_autor (projeto_id, autor_id) VALUES (?, ?), (?, 1)",
+                PROJETO, AUTOR_DO_PROJETO, PROJETO);
+        jdbcTemplate.update("INSERT INTO _avaliacao (id, parecer, nota, data_avaliacao, avaliador_id, status_id, "
+                + "projeto_id) VALUES (?, 'Parecer', 8, DATE '2025-02-01', ?, 3, ?)", AVALIACAO, AVALIADOR, PROJETO);
+        jdbcTemplate.update("INSERT INTO _cronograma (id, data_inicio, data_fim, descricao, status_cronograma) "
+                + "VALUES (?, DATE '2025-06-01', DATE '2025-06-30', 'Cronograma', 'NAO_INICIADO')", CRONOGRAMA);
+        jdbcTemplate.update("INSERT INTO _premio (id, nome, descricao, ano_edicao, cronograma_id) VALUES "
+                + "(?, 'Prêmio', 'Descrição', 2025, ?), (?, 'Outro prêmio', 'Descrição', 2025, ?)",
+                PREMIO, CRONOGRAMA, PREMIO + 1, CRONOGRAMA);
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _avaliacao WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto_autor WHERE projeto_id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _autor WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _avaliador WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _premio WHERE id >= ?", PRIMEIRO_ID);
+        jdbcTemplate.update("DELETE FROM _cronograma WHERE id >= ?", PRIMEIRO_ID);
+    }
+
+    @Test
+    void remocoesPorId() throws Exception {
+        // associações com projetos (removidas pelo Hibernate) e o autor
+        assertOrcamento(2, 204, delete("/api/autores/{id}", AUTOR_SEM_PROJETO));
+        assertOrcamento(2, 404, delete("/api/autores/{id}", INEXISTENTE));
+        // projetos avaliados, o avaliador (as avaliações saem por ON DELETE CASCADE) e o resumo
+        // dos projetos
+        assertOrcamento(3, 204, delete("/avaliadores/{id}", AVALIADOR));
+        assertOrcamento(2, 404, delete("/avaliadores/{id}", INEXISTENTE));
+        assertOrcamento(1, 204, delete("/premios/{id}", PREMIO + 1));
+        assertOrcamento(1, 404, delete("/premios/{id}", INEXISTENTE));
+        // o cronograma (os prêmios saem por ON DELETE CASCADE)
+        assertOrcamento(1, 204, delete("/cronogramas/{id}", CRONOGRAMA));
+        assertOrcamento(1, 404, delete("/cronogramas/{id}", INEXISTENTE));
+        // associações com autores e o projeto (as avaliações saem por ON DELETE CASCADE)
+        assertOrcamento(2, 204, delete("/api/projetos/{id}", PROJETO));
+        assertOrcamento(2, 404, delete("/api/projetos/{id}", INEXISTENTE));
+    }
+
+    @Test
+    void deletarCronogramaRemovePremiosDoCache() throws Exception {
+        // prêmios e a lista do cronograma ficam no cache de segundo nível
+        mockMvc.perform(get("/premios/{id}", PREMIO)).andExpect(status().isOk());
+        mockMvc.perform(get("/cronogramas/{id}", CRONOGRAMA)).andExpect(status().isOk());
+
+        assertOrcamento(1, 204, delete("/cronogramas/{id}", CRONOGRAMA));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM _premio WHERE cronograma_id = ?", Integer.class, CRONOGRAMA));
+        mockMvc.perform(get("/premios/{id}", PREMIO)).andExpect(status().isNotFound());
+        mockMvc.perform(get("/cronogramas/{id}", CRONOGRAMA)).andExpect(status().isNotFound());
+    }
+
+    @Test
+    void removerAutorDoProjeto() throws Exception {
+        // DELETE na tabela intermediária + projeto, autores e avaliações da resposta
+        assertOrcamento(4, 200, delete("/api/projetos/{p}/autores/{a}", PROJETO, AUTOR_DO_PROJETO));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM _projeto_autor WHERE projeto_id = ?", Integer.class, PROJETO));
+        // o autor não está mais no projeto; só então se consulta se o projeto existe
+        assertOrcamento(2, 404, delete("/api/projetos/{p}/autores/{a}", PROJETO, AUTOR_DO_PROJETO));
+        assertOrcamento(2, 404, delete("/api/projetos/{p}/autores/{a}", INEXISTENTE, AUTOR_DO_PROJETO));
+    }
+
+    @Test
+    void moverAvaliacaoParaOutroProjeto() throws Exception {
+        // avaliação, resumo dos dois projetos, UPDATE da avaliação + projeto, autores e avaliações da resposta
+        assertOrcamento(7, 200, post("/api/projetos/{p}/avaliacoes/{a}", OUTRO_PROJETO, AVALIACAO));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT quantidade_avaliacoes FROM _projeto WHERE id = ?", Integer.class, OUTRO_PROJETO));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT quantidade_avaliacoes FROM _projeto WHERE id = ?", Integer.class, PROJETO));
+        assertResumoConfere(PROJETO);
+        assertResumoConfere(OUTRO_PROJETO);
+        assertOrcamento(2, 404, post("/api/projetos/{p}/avaliacoes/{a}", INEXISTENTE, AVALIACAO));
+    }
+
+    @Test
+    void rankingLidoDoResumo() throws Exception {
+        // só a linha de cada projeto, sem agregar as avaliações
+        assertOrcamento(1, 200, get("/api/projetos/ranking").param("limite", "100"));
+        String ranking = mockMvc.perform(get("/api/projetos/ranking").param("limite", "100"))
+                .andReturn().getResponse().getContentAsString();
+        assertTrue(ranking.contains("\"projetoId\":" + PROJETO), ranking);
+        assertFalse(ranking.contains("\"projetoId\":" + OUTRO_PROJETO), ranking);
+    }
+
+    @Test
+    void deletarAvaliadorAtualizaResumo() throws Exception {
+        assertOrcamento(3, 204, delete("/avaliadores/{id}", AVALIADOR));
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT quantidade_avaliacoes FROM _projeto WHERE id = ?", Integer.class, PROJETO));
+        assertResumoConfere(PROJETO);
+    }
+
+    @Test
+    void avaliacaoSemNotaNaoEntraNoResumo() {
+        // 400 antes de qualquer comando, em vez de NPE no UPDATE do resumo
+        long antes = statistics.getPrepareStatementCount();
+        assertThrows(BadRequestException.class,
+                () -> projetoService.adicionarAvaliacao(OUTRO_PROJETO, new Avaliacao("Parecer", null)));
+        assertThrows(BadRequestException.class,
+                () -> projetoService.adicionarAvaliacao(OUTRO_PROJETO, new Avaliacao("Parecer", 11.0)));
+        assertEquals(0, statistics.getPrepareStatementCount() - antes);
+        assertResumoConfere(OUTRO_PROJETO);
+    }
+
+    @Test
+    void deletarAvaliacaoSemEndpoint() {
+        // UPDATE do resumo do projeto (lendo a nota da própria avaliação) e DELETE
+        long antes = statistics.getPrepareStatementCount();
+        avaliacaoService.deletarPorId(AVALIACAO);
+        assertTrue(statistics.getPrepareStatementCount() - antes <= 2);
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT quantidade_avaliacoes FROM _projeto WHERE id = ?", Integer.class, PROJETO));
+        assertNull(jdbcTemplate.queryForObject(
+                "SELECT nota_maxima FROM _projeto WHERE id = ?", Double.class, PROJETO));
+        assertResumoConfere(PROJETO);
+        assertThrows(ResourceNotFoundException.class, () -> avaliacaoService.deletarPorId(AVALIACAO));
+    }
+
+    /**
+     * O resumo de notas gravado no projeto é igual ao calculado a partir das avaliações.
+     */
+    private void assertResumoConfere(long projetoId) {
+        String resumo = "SELECT quantidade_avaliacoes, soma_notas, media_notas, nota_minima, nota_maxima, "
+                + "soma_quadrados, data_ultima_avaliacao FROM _projeto WHERE id = ?";
+        String calculado = "SELECT COUNT(*), CAST(COALESCE(SUM(nota), 0) AS DOUBLE PRECISION), CAST(AVG(nota) AS DOUBLE PRECISION), "
+                + "MIN(nota), MAX(nota), CAST(COALESCE(SUM(nota * nota), 0) AS DOUBLE PRECISION), "
+                + "MAX(data_avaliacao) FROM _avaliacao WHERE projeto_id = ?";
+        assertEquals(new ArrayList<>(jdbcTemplate.queryForList(calculado, projetoId).get(0).values()),
+                new ArrayList<>(jdbcTemplate.queryForList(resumo, projetoId).get(0).values()),
+                "resumo do projeto " + projetoId);
+    }
+
+    private void assertOrcamento(int orcamento, int status, MockHttpServletRequestBuilder requisicao) throws Exception {
+        long antes = statistics.getPrepareStatementCount();
+        MvcResult resultado = mockMvc.perform(requisicao).andReturn();
+        long comandos = statistics.getPrepareStatementCount() - antes;
+
+        int recebido = resultado.getResponse().getStatus();
+        String descricao = resultado.getRequest().getMethod() + " " + resultado.getRequest().getRequestURI()
+                + ": status " + recebido + ", " + comandos + " comandos (orçamento " + orcamento + ")";
+        assertEquals(status, recebido, descricao);
+        assertTrue(comandos <= orcamento, descricao);
+    }
+}
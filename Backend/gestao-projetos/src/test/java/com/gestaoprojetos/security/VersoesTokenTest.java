@@ -0,0 +1,34 @@
+package com.gestaoprojetos.security;
+
+import com.gestaoprojetos.repository.UsuarioRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Uma leitura do banco que termina depois de uma revogação não devolve a versão antiga ao cache.
+ */
+class VersoesTokenTest {
+
+    private static final long USUARIO = 1L;
+
+    @Test
+    void leituraAtrasadaNaoDesfazRevogacao() {
+        UsuarioRepository usuarios = mock(UsuarioRepository.class);
+        VersoesToken versoesToken = new VersoesToken(usuarios);
+
+        // a revogação (versão 1) é registrada enquanto a leitura da versão 0 está em andamento
+        when(usuarios.findTokenVersaoById(USUARIO)).thenAnswer(leitura -> {
+            versoesToken.atualizar(USUARIO, 1);
+            return Optional.of(0L);
+        });
+
+        assertFalse(versoesToken.aceita(USUARIO, 0));
+        assertTrue(versoesToken.aceita(USUARIO, 1));
+    }
+}
@@ -0,0 +1,195 @@
+package com.gestaoprojetos.service;
+
+import com.gestaoprojetos.exception.BadRequestException;
+import com.gestaoprojetos.exception.ResourceNotFoundException;
+import com.gestaoprojetos.model.Autor;
+import com.gestaoprojetos.model.Projeto;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Incluir ou remover um autor de um projeto grava só a linha dele em _projeto_autor: um INSERT
+ * ou um DELETE, sem apagar e reinserir as linhas dos demais autores. Os comandos são capturados
+ * por um StatementInspector do Hibernate.
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class ProjetoAutorAssociacaoTest {
+
+    private static final long PROJETO = 1_000_000;
+    private static final long PRIMEIRO_AUTOR = 1_000_000;
+    private static final int AUTORES_NO_PROJETO = 3;
+    private static final long AUTOR_NOVO = PRIMEIRO_AUTOR + AUTORES_NO_PROJETO;
+
+    private static final ComandosTabelaIntermediaria COMANDOS = new ComandosTabelaIntermediaria();
+
+    @TestConfiguration
+    static class Configuracao {
+        @Bean
+        HibernatePropertiesCustomizer inspecionarComandos() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, COMANDOS);
+        }
+    }
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    private AutorServiceIMP autorService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void carregar() {
+        jdbcTemplate.update("INSERT INTO _projeto (id, titulo, resumo, data_envio, area_tematica, soma_notas, "
+                + "quantidade_avaliacoes) VALUES (?, 'Projeto', 'Resumo', DATE '2025-01-01', 'Tecnologia', 0, 0)",
+                PROJETO);
+        for (long id = PRIMEIRO_AUTOR; id <= AUTOR_NOVO; id++) {
+            jdbcTemplate.update("INSERT INTO _autor (id, nome, cpf, telefone, email) "
+                    + "VALUES (?, 'Autor', '123.456.789-00', '99999-0000', 'a@exemplo.com')", id);
+        }
+        for (long id = PRIMEIRO_AUTOR; id < AUTOR_NOVO; id++) {
+            jdbcTemplate.update("INSERT INTO _projeto_autor (projeto_id, autor_id) VALUES (?, ?)", PROJETO, id);
+        }
+    }
+
+    @AfterEach
+    void limpar() {
+        jdbcTemplate.update("DELETE FROM _projeto_autor WHERE projeto_id >= ?", PROJETO);
+        jdbcTemplate.update("DELETE FROM _projeto WHERE id >= ?", PROJETO);
+        jdbcTemplate.update("DELETE FROM _autor WHERE id >= ?", PRIMEIRO_AUTOR);
+    }
+
+    @Test
+    void chavePrimariaComposta() {
+        List<String> colunas = jdbcTemplate.queryForList("SELECT k.COLUMN_NAME "
+                + "FROM INFORMATION_SCHEMA.TABLE_CONSTRAINTS c JOIN INFORMATION_SCHEMA.KEY_COLUMN_USAGE k "
+                + "ON k.CONSTRAINT_NAME = c.CONSTRAINT_NAME AND k.TABLE_NAME = c.TABLE_NAME "
+                + "WHERE c.TABLE_NAME = '_PROJETO_AUTOR' AND c.CONSTRAINT_TYPE = 'PRIMARY KEY' "
+                + "ORDER BY k.COLUMN_NAME", String.class);
+        assertEquals(List.of("AUTOR_ID", "PROJETO_ID"), colunas);
+    }
+
+    @Test
+    void incluirERemoverPeloProjeto() {
+        Autor autor = new Autor();
+        autor.setId(AUTOR_NOVO);
+
+        COMANDOS.limpar();
+        projetoService.adicionarAutor(PROJETO, autor);
+        assertUmaLinha("insert");
+        assertEquals(AUTORES_NO_PROJETO + 1, autoresNoProjeto());
+
+        // já está no projeto: nada é gravado
+        COMANDOS.limpar();
+        projetoService.adicionarAutor(PROJETO, autor);
+        assertEquals(List.of(), COMANDOS.gravados());
+
+        COMANDOS.limpar();
+        projetoService.removerAutor(PROJETO, AUTOR_NOVO);
+        assertUmaLinha("delete");
+        assertEquals(AUTORES_NO_PROJETO, autoresNoProjeto());
+    }
+
+    @Test
+    void incluirERemoverPeloAutor() {
+        Projeto projeto = new Projeto();
+        projeto.setId(PROJETO);
+
+        COMANDOS.limpar();
+        autorService.adicionarProjeto(AUTOR_NOVO, projeto);
+        assertUmaLinha("insert");
+        assertEquals(AUTORES_NO_PROJETO + 1, autoresNoProjeto());
+        assertThrows(BadRequestException.class, () -> autorService.adicionarProjeto(AUTOR_NOVO, projeto));
+
+        COMANDOS.limpar();
+        autorService.removerProjeto(PRIMEIRO_AUTOR, PROJETO);
+        assertUmaLinha("delete");
+        assertEquals(AUTORES_NO_PROJETO, autoresNoProjeto());
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM _projeto_autor WHERE autor_id = ?", Integer.class, PRIMEIRO_AUTOR));
+        assertThrows(ResourceNotFoundException.class, () -> autorService.removerProjeto(PRIMEIRO_AUTOR, PROJETO));
+    }
+
+    @Test
+    void criarAutorComProjetos() {
+        long autoresAntes = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM _autor", Long.class);
+        assertThrows(ResourceNotFoundException.class,
+                () -> autorService.criarAutor(novoAutor(), List.of(PROJETO, PROJETO + 1)));
+        assertEquals(autoresAntes, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM _autor", Long.class));
+
+        COMANDOS.limpar();
+        Autor criado = autorService.criarAutor(novoAutor(), List.of(PROJETO));
+        try {
+            assertUmaLinha("insert");
+            assertEquals(AUTORES_NO_PROJETO + 1, autoresNoProjeto());
+        } finally {
+            jdbcTemplate.update("DELETE FROM _projeto_autor WHERE autor_id = ?", criado.getId());
+            jdbcTemplate.update("DELETE FROM _autor WHERE id = ?", criado.getId());
+        }
+    }
+
+    private static Autor novoAutor() {
+        Autor autor = new Autor();
+        autor.setNome("Autor");
+        autor.setCpf("123.456.789-00");
+        autor.setTelefone("99999-0000");
+        autor.setEmail("a@exemplo.com");
+        return autor;
+    }
+
+    private void assertUmaLinha(String comando) {
+        List<String> gravados = COMANDOS.gravados();
+        assertEquals(1, gravados.size(), gravados.toString());
+        assertTrue(gravados.get(0).startsWith(comando), gravados.toString());
+        // a linha é identificada pelas duas colunas, não só pelo projeto
+        assertTrue(gravados.get(0).contains("autor_id"), gravados.toString());
+    }
+
+    private int autoresNoProjeto() {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM _projeto_autor WHERE projeto_id = ?", Integer.class, PROJETO);
+    }
+
+    /**
+     * Guarda os INSERT, UPDATE e DELETE em _projeto_autor preparados pelo Hibernate.
+     */
+    static class ComandosTabelaIntermediaria implements StatementInspector {
+
+        private final List<String> gravados = new ArrayList<>();
+
+        @Override
+        public synchronized String inspect(String sql) {
+            String comando = sql.trim().toLowerCase(Locale.ROOT);
+            if (comando.contains("_projeto_autor") && !comando.startsWith("select")) {
+                gravados.add(comando);
+            }
+            return sql;
+        }
+
+        synchronized void limpar() {
+            gravados.clear();
+        }
+
+        synchronized List<String> gravados() {
+            return List.copyOf(gravados);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.gestaoprojetos.service;
+
+import com.gestaoprojetos.controller.DTO.ProjetoDTO;
+import com.gestaoprojetos.controller.DTO.ProjetoDTO.ProjetoResponseDTO;
+import com.gestaoprojetos.model.Autor;
+import com.gestaoprojetos.model.Avaliacao;
+import com.gestaoprojetos.model.Avaliador;
+import com.gestaoprojetos.model.Projeto;
+import com.gestaoprojetos.model.ResumoNotas;
+import com.gestaoprojetos.model.Status;
+import com.gestaoprojetos.repository.CursorPage;
+import com.gestaoprojetos.repository.ProjetoRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Garante que o mapeamento Projeto -> ProjetoResponseDTO roda em número constante de
+ * consultas, independente da quantidade de projetos na página.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class ProjetoFetchPlanTest {
+
+    private static final int PROJETOS_EXTRAS = 20;
+
+    @Autowired
+    private ProjetoServiceIMP projetoService;
+
+    @Autowired
+    private ProjetoRepository projetoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        Autor joao = entityManager.find(Autor.class, 1L);
+        Autor carlos = entityManager.find(Autor.class, 3L);
+        Avaliador maria = entityManager.find(Avaliador.class, 2L);
+        Status pendente = entityManager.find(Status.class, 1L);
+
+        for (int i = 0; i < PROJETOS_EXTRAS; i++) {
+            Projeto projeto = new Projeto(null, "Projeto " + i, "Resumo " + i,
+                    LocalDate.of(2025, 6, 1), "Tecnologia", List.of(joao, carlos), null);
+            projeto.setResumoNotas(new ResumoNotas(11.0, 2, 5.5, 6.0, 5.0, 61.0, LocalDate.of(2025, 6, 10)));
+            entityManager.persist(projeto);
+            for (int n = 0; n < 2; n++) {
+                Avaliacao avaliacao = new Avaliacao("Parecer " + n, 5.0 + n);
+                avaliacao.setDataAvaliacao(LocalDate.of(2025, 6, 10));
+                avaliacao.setAvaliador(maria);
+                avaliacao.setStatus(pendente);
+                avaliacao.setProjeto(projeto);
+                entityManager.persist(avaliacao);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void listagemUsaTresConsultasPorPagina() {
+        assertEquals(3, consultasParaListar(5));
+        entityManager.clear();
+        statistics.clear();
+        assertEquals(3, consultasParaListar(PROJETOS_EXTRAS + 2));
+    }
+
+    @Test
+    void detalheUsaDuasConsultas() {
+        ProjetoResponseDTO dto = ProjetoDTO.toProjetoResponseDTO(projetoService.buscarDetalhePorId(1L));
+
+        assertEquals(1, dto.getAutores().size());
+        assertEquals(1, dto.getAvaliacoes().size());
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void vencedoresUsaTresConsultas() {
+        List<ProjetoResponseDTO> vencedores = projetoService.listarProjetosVencedores(null).stream()
+                .map(ProjetoDTO::toProjetoResponseDTO)
+                .toList();
+
+        assertEquals(PROJETOS_EXTRAS + 2, vencedores.size());
+        // projetos pelo resumo de notas + autores e avaliações em lote
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void totalDosAvaliadosSoNaPrimeiraPagina() {
+        CursorPage<ProjetoResponseDTO> primeira = projetoService.listarProjetosComAvaliacao(null, 5);
+        // projetos + autores + avaliações da página + contagem pelo resumo de notas
+        assertEquals(4, statistics.getPrepareStatementCount());
+        assertEquals(projetoRepository.count(ProjetoRepository.comAvaliacao()), primeira.getTotal());
+
+        entityManager.clear();
+        statistics.clear();
+        CursorPage<ProjetoResponseDTO> segunda = projetoService.listarProjetosComAvaliacao(primeira.getNextCursor(), 5);
+        assertEquals(3, statistics.getPrepareStatementCount());
+        assertNull(segunda.getTotal());
+    }
+
+    private long consultasParaListar(int tamanho) {
+        CursorPage<ProjetoResponseDTO> pagina = projetoService.listarTodos(null, tamanho, "id", "asc");
+        assertEquals(tamanho, pagina.getItens().size());
+        return statistics.getPrepareStatementCount();
+    }
+}